@@ -0,0 +1,64 @@
+package com.whg.chess.benchmark;
+
+import com.whg.chess.engine.GameEngine;
+import com.whg.chess.engine.rule.helper.KingUtils;
+import com.whg.chess.engine.rule.helper.PathUtils;
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.ValidationResult;
+import com.whg.chess.model.enums.Color;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the move validation hot paths over the positions of the bundled games.
+ * Run with {@code -prof gc} to get the allocation rate per operation as well, see the {@code jmh} profile.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    @Benchmark
+    public Board performMove(GamePositions game) {
+        GameEngine engine = game.components.getGameEngine();
+        int index = game.nextMove();
+
+        return engine.performMove(game.positions[index], game.moves[index]);
+    }
+
+    /**
+     * Check detection on a position seen for the first time, the cached result is dropped before every call.
+     */
+    @Benchmark
+    public boolean isKingUnderAttack(GamePositions game) {
+        KingUtils kingUtils = game.components.getKingUtils();
+        Board board = game.positions[game.nextPosition()];
+        board.setCheckedKings(Board.CHECKS_NOT_COMPUTED);
+
+        return kingUtils.isKingUnderAttack(board, Color.WHITE) | kingUtils.isKingUnderAttack(board, Color.BLACK);
+    }
+
+    @Benchmark
+    public Board copyBoard(GamePositions game) {
+        return new Board(game.positions[game.nextPosition()]);
+    }
+
+    @Benchmark
+    public ValidationResult validatePathIsNotBlocked(GamePositions game) {
+        PathUtils pathUtils = game.components.getPathUtils();
+        int index = game.nextMove();
+        Move move = game.moves[index];
+
+        return pathUtils.validatePathIsNotBlocked(game.positions[index], move.getFrom(), move.getTo());
+    }
+}
@@ -0,0 +1,80 @@
+package com.whg.chess.benchmark;
+
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Move;
+import com.whg.chess.standalone.StandaloneComponents;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Positions of a bundled game replayed up to its first illegal move. Benchmarks walk through them one per invocation,
+ * so a measurement covers the opening, the middle game and the check positions of the file rather than a single board.
+ */
+@State(Scope.Thread)
+public class GamePositions {
+
+    public static final String MOVES = "src/main/resources/moves/";
+
+    @Param({"sample-moves.txt", "checkmate.txt", "move-when-check.txt"})
+    public String game;
+
+    StandaloneComponents components;
+
+    /**
+     * Board before every legal move of the game followed by the final position.
+     */
+    Board[] positions;
+
+    /**
+     * Legal moves of the game, the move at index {@code i} is played on {@code positions[i]}.
+     */
+    Move[] moves;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void replayGame() {
+        components = StandaloneComponents.fromApplicationYaml();
+
+        List<Board> boards = new ArrayList<>();
+        List<Move> legalMoves = new ArrayList<>();
+        boards.add(components.getBoardFactory().getStartingBoard());
+
+        components.getGameReplayer().replay(game, components.getMoveReaderAdapter().readMoves(MOVES + game).iterator(),
+                (move, outcome) -> {
+                    if (outcome.isLegal()) {
+                        legalMoves.add(move);
+                        boards.add(outcome.getBoard());
+                    }
+                });
+
+        positions = boards.toArray(new Board[0]);
+        moves = legalMoves.toArray(new Move[0]);
+    }
+
+    /**
+     * Index of the next move, cycling through the game.
+     */
+    int nextMove() {
+        int index = cursor;
+        cursor = index + 1 == moves.length ? 0 : index + 1;
+
+        return index;
+    }
+
+    /**
+     * Index of the next position including the final one, cycling through the game.
+     */
+    int nextPosition() {
+        int index = cursor;
+        cursor = index + 1 == positions.length ? 0 : index + 1;
+
+        return index;
+    }
+}
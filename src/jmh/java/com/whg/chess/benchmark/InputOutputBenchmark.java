@@ -0,0 +1,42 @@
+package com.whg.chess.benchmark;
+
+import com.whg.chess.model.Move;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of reading a move file and of rendering a board, the two ends of a console replay.
+ * The renderer writes to a discarding stream, so the numbers show the formatting and not the terminal.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InputOutputBenchmark {
+
+    private final PrintStream discarded = new PrintStream(OutputStream.nullOutputStream());
+
+    @Benchmark
+    public List<Move> readMoves(GamePositions game) {
+        return game.components.getMoveReaderAdapter().readMoves(GamePositions.MOVES + game.game);
+    }
+
+    @Benchmark
+    public void renderBoard(GamePositions game) {
+        game.components.getBoardRenderer().renderBoard(game.positions[game.nextPosition()], discarded);
+    }
+}
@@ -13,5 +13,30 @@ import java.util.Map;
 @ConfigurationProperties(prefix = "app")
 public class AppConfig {
     private Integer boardSize;
+    /**
+     * Selects the command line runner: {@code console} replays a file of moves, {@code perft} counts move tree nodes,
+     * {@code batch} validates many game files in parallel, {@code server} validates games posted over HTTP.
+     */
+    private String mode = "console";
+    /**
+     * Selects the move file reader: {@code user-input} goes through the vendor reader, {@code mapped} memory-maps the file.
+     */
+    private String reader = "user-input";
+    private Integer serverPort = 8080;
+    /**
+     * Console replays store a checkpoint every that many moves next to the move file and resume from the latest one
+     * on the next run, {@code 0} disables checkpoints.
+     */
+    private Integer checkpointInterval = 0;
+    /**
+     * Boards printed by console replays: {@code every-move}, {@code every-nth} move as set by {@code render-interval}
+     * or only the {@code final} one. The final board is printed in every mode.
+     */
+    private String renderMode = "every-move";
+    private Integer renderInterval = 10;
+    /**
+     * Console replays write through a single large buffer flushed when the replay ends instead of flushing every line.
+     */
+    private Boolean renderBuffered = false;
     private Map<PieceName, String> nameMappings = new HashMap<>();
 }
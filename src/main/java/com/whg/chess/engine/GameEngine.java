@@ -1,15 +1,26 @@
 package com.whg.chess.engine;
 
+import com.whg.chess.engine.generator.MoveGenerator;
+import com.whg.chess.engine.jfr.EngineEvents;
+import com.whg.chess.engine.jfr.MoveValidationEvent;
+import com.whg.chess.engine.jfr.RulePhaseEvent;
+import com.whg.chess.engine.metrics.RuleMetrics;
+import com.whg.chess.engine.metrics.RuleStats;
+import com.whg.chess.engine.rule.PieceTypeRule;
 import com.whg.chess.engine.rule.Rule;
 import com.whg.chess.engine.rule.exceptions.ChessRuleException;
+import com.whg.chess.engine.rule.helper.KingUtils;
 import com.whg.chess.engine.rule.impl.general.GeneralRule;
 import com.whg.chess.engine.rule.impl.piece.PieceRule;
 import com.whg.chess.engine.rule.impl.postmove.PostMoveRule;
 import com.whg.chess.model.Board;
+import com.whg.chess.model.Coordinates;
 import com.whg.chess.model.Move;
-import com.whg.chess.model.Square;
+import com.whg.chess.model.MoveList;
+import com.whg.chess.model.MoveOutcome;
 import com.whg.chess.model.ValidationResult;
-import com.whg.chess.model.enums.ValidationStatus;
+import com.whg.chess.model.enums.Color;
+import com.whg.chess.model.enums.PieceName;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -17,65 +28,243 @@ import java.util.List;
 @Component
 public class GameEngine {
 
-    private final List<Rule> generalRules;
-    private final List<Rule> pieceRules;
-    private final List<Rule> postMoveRules;
+    private final Rule[] generalRules;
+    private final Rule[] postMoveRules;
+
+    /**
+     * Piece rules indexed by {@link PieceName#ordinal()} of the piece they validate.
+     */
+    private final Rule[] pieceRules;
+
+    /**
+     * Stats of the rule at the same index of the rule arrays above.
+     */
+    private final RuleStats[] generalRuleStats;
+    private final RuleStats[] postMoveRuleStats;
+    private final RuleStats[] pieceRuleStats;
+
+    private final MoveGenerator moveGenerator;
+    private final KingUtils kingUtils;
 
     public GameEngine(
             @GeneralRule List<Rule> generalRules,
-            @PieceRule List<Rule> pieceRules,
-            @PostMoveRule List<Rule> postMoveRules
+            @PieceRule List<PieceTypeRule> pieceRules,
+            @PostMoveRule List<Rule> postMoveRules,
+            MoveGenerator moveGenerator,
+            KingUtils kingUtils,
+            RuleMetrics ruleMetrics
     ) {
-        this.generalRules = generalRules;
-        this.pieceRules = pieceRules;
-        this.postMoveRules = postMoveRules;
+        this.generalRules = generalRules.toArray(new Rule[0]);
+        this.postMoveRules = postMoveRules.toArray(new Rule[0]);
+        this.pieceRules = buildPieceRulesTable(pieceRules);
+        this.generalRuleStats = buildStatsTable(this.generalRules, ruleMetrics);
+        this.postMoveRuleStats = buildStatsTable(this.postMoveRules, ruleMetrics);
+        this.pieceRuleStats = buildStatsTable(this.pieceRules, ruleMetrics);
+        this.moveGenerator = moveGenerator;
+        this.kingUtils = kingUtils;
     }
 
+    /**
+     * Validates the move and returns the resulting position leaving the given board untouched.
+     *
+     * @throws ChessRuleException if the move is illegal
+     */
     public Board performMove(Board board, Move move) {
+        MoveOutcome outcome = tryMove(board, move);
+        if (!outcome.isLegal()) {
+            throw new ChessRuleException(outcome.getExplanation());
+        }
+
+        return outcome.getBoard();
+    }
+
+    /**
+     * Validates the move and returns either the resulting position with the check status of both kings
+     * or the reason the move is illegal, leaving the given board untouched. Illegal moves are reported without throwing.
+     */
+    public MoveOutcome tryMove(Board board, Move move) {
+        MoveValidationEvent event = EngineEvents.beginMoveValidation();
 
-        validateAgainstRules(generalRules, board, move);
-        validateAgainstRules(pieceRules, board, move);
+        MoveOutcome outcome = validateAndMove(board, move);
+        if (event != null) {
+            event.commitIfRecording(board, move, outcome);
+        }
 
-        return performNewMove(board, move);
+        return outcome;
     }
 
-    private void validateAgainstRules(List<Rule> rules, Board board, Move move) {
-        ValidationResult validationResult = validateRules(rules, board, move);
+    private MoveOutcome validateAndMove(Board board, Move move) {
+        ValidationResult validationResult = validateGeneralRules(board, move);
+        if (validationResult.isSuccess()) {
+            validationResult = validatePieceRule(board, move);
+        }
+        if (validationResult.isFailed()) {
+            return MoveOutcome.illegal(validationResult);
+        }
+
+        Board newPosition = new Board(board);
+        newPosition.makeMove(Board.squareOf(move.getFrom()), Board.squareOf(move.getTo()));
+
+        ValidationResult positionValidationResult = validatePostMoveRules(newPosition, move);
+        if (positionValidationResult.isFailed()) {
+            return MoveOutcome.illegal(positionValidationResult);
+        }
+
+        return MoveOutcome.legal(newPosition, move.getColor(), kingUtils.getCheckedKings(newPosition));
+    }
+
+    /**
+     * Validates the move and applies it to the given board in place. The move can be taken back via {@link #unmakeMove(Board)}.
+     */
+    public void makeMove(Board board, Move move) {
+        validateMove(board, move);
+        applyMove(board, move);
+    }
+
+    /**
+     * Takes back the last move applied to the board via {@link #makeMove(Board, Move)}.
+     */
+    public void unmakeMove(Board board) {
+        if (board.getHistorySize() == 0) {
+            throw new ChessRuleException("There is no move to take back");
+        }
+
+        board.unmakeMove();
+    }
+
+    /**
+     * Checks whether the move is legal by applying and taking it back on the given board, so no position is copied.
+     */
+    public boolean isLegalMove(Board board, Move move) {
+        if (validateGeneralRules(board, move).isFailed() || validatePieceRule(board, move).isFailed()) {
+            return false;
+        }
+
+        board.makeMove(Board.squareOf(move.getFrom()), Board.squareOf(move.getTo()));
+        boolean legal = validatePostMoveRules(board, move).isSuccess();
+        board.unmakeMove();
+
+        return legal;
+    }
+
+    /**
+     * Lists all legal moves of the given color in the position.
+     */
+    public MoveList generateLegalMoves(Board board, Color color) {
+        MoveList moves = new MoveList();
+        generateLegalMoves(board, color, moves);
+        return moves;
+    }
+
+    /**
+     * Replaces the content of the given list with all legal moves of the given color, so the list can be reused
+     * between positions without allocating.
+     */
+    public void generateLegalMoves(Board board, Color color, MoveList moves) {
+        moveGenerator.generateLegalMoves(board, color, moves);
+    }
+
+    private void validateMove(Board board, Move move) {
+        throwIfFailed(validateGeneralRules(board, move));
+        throwIfFailed(validatePieceRule(board, move));
+    }
+
+    private void throwIfFailed(ValidationResult validationResult) {
         if (validationResult.isFailed()) {
             throw new ChessRuleException(validationResult.getExplanation());
         }
     }
 
-    private Board performNewMove(Board board, Move move) {
-        Board newPosition = getNewPosition(board, move);
+    private void applyMove(Board board, Move move) {
+        board.makeMove(Board.squareOf(move.getFrom()), Board.squareOf(move.getTo()));
 
-        ValidationResult positionValidationResult = validateRules(postMoveRules, newPosition, move);
-        if (positionValidationResult.isSuccess()) {
-            return newPosition;
-        } else {
+        ValidationResult positionValidationResult = validatePostMoveRules(board, move);
+        if (positionValidationResult.isFailed()) {
+            board.unmakeMove();
             throw new ChessRuleException(positionValidationResult.getExplanation());
         }
     }
 
-    private ValidationResult validateRules(List<Rule> rules, Board board, Move move) {
-        return rules
-                .stream()
-                .filter(rule -> rule.canValidate(board, move))
-                .map(rule -> rule.validate(board, move))
-                .filter(ValidationResult::isFailed)
-                .findFirst()
-                .orElse(new ValidationResult(ValidationStatus.PASSED));
+    private ValidationResult validateGeneralRules(Board board, Move move) {
+        return validateRules(generalRules, generalRuleStats, RulePhaseEvent.GENERAL, board, move, move.getFrom());
+    }
+
+    /**
+     * Validates the position after the move was made on the given board, the moving piece standing on the target square.
+     */
+    private ValidationResult validatePostMoveRules(Board board, Move move) {
+        return validateRules(postMoveRules, postMoveRuleStats, RulePhaseEvent.POST_MOVE, board, move, move.getTo());
     }
 
-    private Board getNewPosition(Board board, Move move) {
-        Board actualPosition = new Board(board);
+    private ValidationResult validateRules(Rule[] rules, RuleStats[] stats, String phase, Board board, Move move, Coordinates pieceSquare) {
+        RulePhaseEvent event = EngineEvents.beginRulePhase();
+
+        for (int i = 0; i < rules.length; i++) {
+            Rule rule = rules[i];
+            if (rule.canValidate(board, move)) {
+                long start = stats[i].start();
+                ValidationResult validationResult = rule.validate(board, move);
+                stats[i].record(start, validationResult.isFailed());
+                if (validationResult.isFailed()) {
+                    if (event != null) {
+                        event.commitIfRecording(phase, board, move, pieceSquare, rule, validationResult);
+                    }
+                    return validationResult;
+                }
+            }
+        }
 
-        Square fromSquare = actualPosition.getSquare(move.getFrom());
-        Square toSquare = actualPosition.getSquare(move.getTo());
+        if (event != null) {
+            event.commitIfRecording(phase, board, move, pieceSquare, null, ValidationResult.PASSED);
+        }
+        return ValidationResult.PASSED;
+    }
+
+    private ValidationResult validatePieceRule(Board board, Move move) {
+        PieceName pieceName = board.getPieceName(move.getFrom());
+        Rule rule = pieceName == null ? null : pieceRules[pieceName.ordinal()];
+        if (rule == null) {
+            return ValidationResult.PASSED;
+        }
+
+        RulePhaseEvent event = EngineEvents.beginRulePhase();
+
+        RuleStats stats = pieceRuleStats[pieceName.ordinal()];
+        long start = stats.start();
+        ValidationResult validationResult = rule.validate(board, move);
+        stats.record(start, validationResult.isFailed());
+
+        if (event != null) {
+            event.commitIfRecording(RulePhaseEvent.PIECE, board, move, move.getFrom(), validationResult.isFailed() ? rule : null, validationResult);
+        }
+        return validationResult;
+    }
+
+    private static Rule[] buildPieceRulesTable(List<PieceTypeRule> rules) {
+        Rule[] table = new Rule[PieceName.values().length];
+
+        for (PieceTypeRule rule : rules) {
+            int index = rule.getPieceName().ordinal();
+            if (table[index] != null) {
+                throw new IllegalStateException("More than one rule validates moves of " + rule.getPieceName() + ": "
+                        + table[index].getClass().getSimpleName() + ", " + rule.getClass().getSimpleName());
+            }
+            table[index] = rule;
+        }
+
+        return table;
+    }
+
+    private static RuleStats[] buildStatsTable(Rule[] rules, RuleMetrics ruleMetrics) {
+        RuleStats[] stats = new RuleStats[rules.length];
+
+        for (int i = 0; i < rules.length; i++) {
+            if (rules[i] != null) {
+                stats[i] = ruleMetrics.statsFor(rules[i].getClass());
+            }
+        }
 
-        toSquare.setPiece(fromSquare.getPiece());
-        fromSquare.setPiece(null);
-        return actualPosition;
+        return stats;
     }
 
 }
@@ -0,0 +1,14 @@
+package com.whg.chess.engine.checkpoint;
+
+import lombok.Data;
+
+/**
+ * Position reached after the first {@code moveIndex} moves of a game, stored as FEN, together with the
+ * {@link MoveHash} of those moves. The checkpoint may only be trusted for a move file starting with moves of the same hash.
+ */
+@Data
+public class Checkpoint {
+    private final int moveIndex;
+    private final long prefixHash;
+    private final String fen;
+}
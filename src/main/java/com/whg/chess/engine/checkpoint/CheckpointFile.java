@@ -0,0 +1,109 @@
+package com.whg.chess.engine.checkpoint;
+
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sidecar file next to a move file holding its {@link Checkpoint}s, one line each:
+ * <pre>
+ * &lt;move index&gt; &lt;prefix hash in hex&gt; &lt;FEN&gt;
+ * </pre>
+ * Checkpoints only save work, so a sidecar that is missing or cannot be parsed is treated as empty.
+ */
+@Component
+public class CheckpointFile {
+
+    public static final String SUFFIX = ".checkpoints";
+
+    private static final String TEMPORARY_SUFFIX = SUFFIX + ".tmp";
+
+    private static final String HEADER = "# chess checkpoints v1";
+
+    public Path locationOf(String movesLocation) {
+        return Paths.get(movesLocation + SUFFIX);
+    }
+
+    /**
+     * Whether the file is a sidecar or a sidecar being written rather than a file of moves.
+     */
+    public static boolean isSidecar(Path file) {
+        String name = String.valueOf(file.getFileName());
+        return name.endsWith(SUFFIX) || name.endsWith(TEMPORARY_SUFFIX);
+    }
+
+    public List<Checkpoint> read(String movesLocation) {
+        List<Checkpoint> checkpoints = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(locationOf(movesLocation), StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                return Collections.emptyList();
+            }
+
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                checkpoints.add(parse(line));
+            }
+        } catch (IOException | RuntimeException e) {
+            return Collections.emptyList();
+        }
+
+        return checkpoints;
+    }
+
+    /**
+     * Replaces the sidecar atomically, so a run killed while writing leaves the previous checkpoints behind.
+     * A failed write removes the temporary file.
+     *
+     * @throws UncheckedIOException if the sidecar cannot be written
+     */
+    public void write(String movesLocation, List<Checkpoint> checkpoints) {
+        Path location = locationOf(movesLocation);
+        Path temporary = Paths.get(movesLocation + TEMPORARY_SUFFIX);
+
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (Checkpoint checkpoint : checkpoints) {
+                    writer.write(format(checkpoint));
+                    writer.newLine();
+                }
+            }
+            Files.move(temporary, location, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(temporary);
+            throw new UncheckedIOException("Could not write checkpoints to " + location, e);
+        }
+    }
+
+    private static void deleteQuietly(Path temporary) {
+        try {
+            Files.deleteIfExists(temporary);
+        } catch (IOException e) {
+            // nothing else to do, the next write replaces it
+        }
+    }
+
+    private static Checkpoint parse(String line) {
+        int first = line.indexOf(' ');
+        int second = line.indexOf(' ', first + 1);
+
+        return new Checkpoint(Integer.parseInt(line.substring(0, first)), Long.parseUnsignedLong(line.substring(first + 1, second), 16),
+                line.substring(second + 1));
+    }
+
+    private static String format(Checkpoint checkpoint) {
+        return checkpoint.getMoveIndex() + " " + Long.toHexString(checkpoint.getPrefixHash()) + " " + checkpoint.getFen();
+    }
+}
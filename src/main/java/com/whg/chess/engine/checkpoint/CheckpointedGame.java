@@ -0,0 +1,90 @@
+package com.whg.chess.engine.checkpoint;
+
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Move;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A game resumed by {@link GameCheckpointer}: the position to continue from, the moves still to be validated and the
+ * checkpoints collected while they are applied. Not thread-safe, a game is replayed by a single thread.
+ */
+public class CheckpointedGame {
+
+    private final String movesLocation;
+    private final int interval;
+    private final CheckpointFile checkpointFile;
+    private final BoardFactory boardFactory;
+    private final Board board;
+    private final Iterator<Move> remainingMoves;
+    private final List<Checkpoint> checkpoints;
+    private final int restoredMoves;
+
+    private int movesApplied;
+    private long prefixHash;
+
+    CheckpointedGame(String movesLocation, int interval, CheckpointFile checkpointFile, BoardFactory boardFactory,
+                     Checkpoint restored, Board board, List<Checkpoint> trustedCheckpoints, Iterator<Move> remainingMoves) {
+        this.movesLocation = movesLocation;
+        this.interval = interval;
+        this.checkpointFile = checkpointFile;
+        this.boardFactory = boardFactory;
+        this.board = board;
+        this.remainingMoves = remainingMoves;
+        this.checkpoints = new ArrayList<>(trustedCheckpoints);
+        this.restoredMoves = restored == null ? 0 : restored.getMoveIndex();
+        this.movesApplied = restoredMoves;
+        this.prefixHash = restored == null ? MoveHash.INITIAL : restored.getPrefixHash();
+    }
+
+    /**
+     * Position after the restored checkpoint or the starting position.
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Number of moves covered by the restored checkpoint, 0 when the game starts from the beginning.
+     */
+    public int getRestoredMoves() {
+        return restoredMoves;
+    }
+
+    public int getMovesApplied() {
+        return movesApplied;
+    }
+
+    /**
+     * Moves following the restored checkpoint, including those read while verifying the checkpoints.
+     */
+    public Iterator<Move> getRemainingMoves() {
+        return remainingMoves;
+    }
+
+    /**
+     * Records a legal move and the position it led to, taking a checkpoint every {@code interval} moves.
+     */
+    public void moveApplied(Move move, Board position) {
+        movesApplied++;
+        prefixHash = MoveHash.update(prefixHash, move);
+
+        if (interval > 0 && movesApplied % interval == 0) {
+            checkpoints.add(new Checkpoint(movesApplied, prefixHash, boardFactory.toFen(position)));
+        }
+    }
+
+    /**
+     * Writes the checkpoints of the legal moves applied so far, unless checkpointing is disabled.
+     *
+     * @throws java.io.UncheckedIOException if the sidecar cannot be written
+     */
+    public void save() {
+        if (interval > 0) {
+            checkpointFile.write(movesLocation, checkpoints);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.whg.chess.engine.checkpoint;
+
+import com.whg.chess.config.AppConfig;
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Move;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Resumes a game from the latest {@link Checkpoint} whose move prefix is unchanged, so only moves appended to a long
+ * game since the last run are validated. The prefix is still read to compute its {@link MoveHash}, but reading is
+ * cheap next to validating and rendering every move.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameCheckpointer {
+
+    private final AppConfig appConfig;
+    private final BoardFactory boardFactory;
+    private final CheckpointFile checkpointFile;
+
+    /**
+     * Restores the game read from the given moves. When checkpointing is disabled the game starts from the beginning
+     * and no sidecar is read or written. Checkpoints are trusted up to the first one whose moves differ or whose
+     * position cannot be parsed.
+     */
+    public CheckpointedGame resume(String movesLocation, Iterator<Move> moves) {
+        int interval = appConfig.getCheckpointInterval();
+        List<Checkpoint> checkpoints = interval > 0 ? checkpointFile.read(movesLocation) : Collections.emptyList();
+
+        List<Checkpoint> trusted = new ArrayList<>();
+        Board board = null;
+        List<Move> unverified = new ArrayList<>();
+        long prefixHash = MoveHash.INITIAL;
+        int movesRead = 0;
+
+        for (Checkpoint checkpoint : checkpoints) {
+            while (movesRead < checkpoint.getMoveIndex() && moves.hasNext()) {
+                Move move = moves.next();
+                prefixHash = MoveHash.update(prefixHash, move);
+                unverified.add(move);
+                movesRead++;
+            }
+
+            if (movesRead != checkpoint.getMoveIndex() || prefixHash != checkpoint.getPrefixHash()) {
+                break;
+            }
+            try {
+                board = boardFactory.fromFen(checkpoint.getFen());
+            } catch (IllegalArgumentException e) {
+                break;
+            }
+            trusted.add(checkpoint);
+            unverified.clear();
+        }
+
+        Checkpoint restored = trusted.isEmpty() ? null : trusted.get(trusted.size() - 1);
+        if (restored == null) {
+            board = boardFactory.getStartingBoard();
+        }
+
+        return new CheckpointedGame(movesLocation, interval, checkpointFile, boardFactory, restored, board, trusted, concat(unverified, moves));
+    }
+
+    private static Iterator<Move> concat(List<Move> first, Iterator<Move> rest) {
+        if (first.isEmpty()) {
+            return rest;
+        }
+
+        Iterator<Move> head = first.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return head.hasNext() || rest.hasNext();
+            }
+
+            @Override
+            public Move next() {
+                return head.hasNext() ? head.next() : rest.next();
+            }
+        };
+    }
+}
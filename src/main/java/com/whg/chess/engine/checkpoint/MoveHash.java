@@ -0,0 +1,22 @@
+package com.whg.chess.engine.checkpoint;
+
+import com.whg.chess.model.Move;
+
+/**
+ * Running 64-bit FNV-1a hash of a sequence of moves, fed with the packed coordinates of every move.
+ * Hashing the parsed moves rather than the raw bytes lets a file be reformatted without losing its checkpoints.
+ */
+public final class MoveHash {
+
+    public static final long INITIAL = 0xcbf29ce484222325L;
+
+    private static final long PRIME = 0x100000001b3L;
+
+    private MoveHash() {
+    }
+
+    public static long update(long hash, Move move) {
+        hash = (hash ^ move.getFrom().pack()) * PRIME;
+        return (hash ^ move.getTo().pack()) * PRIME;
+    }
+}
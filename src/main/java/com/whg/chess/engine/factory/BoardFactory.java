@@ -5,4 +5,13 @@ import com.whg.chess.model.Board;
 public interface BoardFactory {
     Board getClearBoard();
     Board getStartingBoard();
+
+    /**
+     * Creates a board of the configured size from Forsyth-Edwards Notation, see {@link Fen}.
+     *
+     * @throws IllegalArgumentException if the notation does not describe a position of the configured size
+     */
+    Board fromFen(String fen);
+
+    String toFen(Board board);
 }
@@ -0,0 +1,126 @@
+package com.whg.chess.engine.factory;
+
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Piece;
+import com.whg.chess.model.enums.Color;
+import com.whg.chess.model.enums.PieceName;
+
+/**
+ * Single pass reader and writer of Forsyth-Edwards Notation for boards of any supported size.
+ * The engine models piece placement and side to move only, so castling rights, en passant square and move counters
+ * are skipped when reading and written as {@code - - 0 1}.
+ */
+public final class Fen {
+
+    public static final String STARTING_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w - - 0 1";
+
+    private static final String PIECE_LETTERS = "PNBRQK";
+    private static final PieceName[] PIECE_NAMES = PieceName.values();
+    private static final String UNMODELED_FIELDS = " - - 0 1";
+
+    private Fen() {
+    }
+
+    public static Board parse(String fen, int size) {
+        Board board = new Board(size);
+        int row = size - 1;
+        int column = 0;
+        int index = 0;
+
+        for (; index < fen.length() && fen.charAt(index) != ' '; index++) {
+            char symbol = fen.charAt(index);
+
+            if (symbol == '/') {
+                if (column != size) {
+                    throw invalid(fen, "rank " + (row + 1) + " does not have " + size + " squares");
+                }
+                if (row == 0) {
+                    throw invalid(fen, "the board has more than " + size + " ranks");
+                }
+                row--;
+                column = 0;
+            } else if (symbol >= '1' && symbol <= '9') {
+                column += symbol - '0';
+            } else {
+                int type = PIECE_LETTERS.indexOf(Character.toUpperCase(symbol));
+                if (type < 0) {
+                    throw invalid(fen, "'" + symbol + "' is not a piece");
+                }
+                if (column < size) {
+                    board.putPiece(Board.squareOf(row, column), PIECE_NAMES[type], Character.isUpperCase(symbol) ? Color.WHITE : Color.BLACK);
+                }
+                column++;
+            }
+
+            if (column > size) {
+                throw invalid(fen, "rank " + (row + 1) + " has more than " + size + " squares");
+            }
+        }
+
+        if (row != 0 || column != size) {
+            throw invalid(fen, "the board does not have " + size + " ranks of " + size + " squares");
+        }
+
+        board.setSideToMove(parseSideToMove(fen, index + 1));
+        return board;
+    }
+
+    public static String format(Board board) {
+        int size = board.getSize();
+        StringBuilder fen = new StringBuilder(size * (size + 1) + UNMODELED_FIELDS.length() + 2);
+
+        for (int row = size - 1; row >= 0; row--) {
+            int empty = 0;
+
+            for (int column = 0; column < size; column++) {
+                Piece piece = board.getPiece(Board.squareOf(row, column));
+                if (piece == null) {
+                    empty++;
+                    continue;
+                }
+
+                if (empty > 0) {
+                    fen.append(empty);
+                    empty = 0;
+                }
+                char letter = PIECE_LETTERS.charAt(piece.getName().ordinal());
+                fen.append(piece.getColor() == Color.WHITE ? letter : Character.toLowerCase(letter));
+            }
+
+            if (empty > 0) {
+                fen.append(empty);
+            }
+            if (row > 0) {
+                fen.append('/');
+            }
+        }
+
+        return fen.append(' ')
+                .append(board.getSideToMove() == Color.WHITE ? 'w' : 'b')
+                .append(UNMODELED_FIELDS)
+                .toString();
+    }
+
+    /**
+     * White moves first when the notation ends after the piece placement.
+     */
+    private static Color parseSideToMove(String fen, int index) {
+        if (index >= fen.length()) {
+            return Color.WHITE;
+        }
+
+        boolean endOfField = index + 1 == fen.length() || fen.charAt(index + 1) == ' ';
+        char side = fen.charAt(index);
+        if (endOfField && side == 'w') {
+            return Color.WHITE;
+        } else if (endOfField && side == 'b') {
+            return Color.BLACK;
+        }
+
+        throw invalid(fen, "the side to move is neither 'w' nor 'b'");
+    }
+
+    private static IllegalArgumentException invalid(String fen, String reason) {
+        return new IllegalArgumentException("Invalid FEN \"" + fen + "\": " + reason);
+    }
+}
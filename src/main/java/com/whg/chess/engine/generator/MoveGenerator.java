@@ -0,0 +1,12 @@
+package com.whg.chess.engine.generator;
+
+import com.whg.chess.model.Board;
+import com.whg.chess.model.MoveList;
+import com.whg.chess.model.enums.Color;
+
+public interface MoveGenerator {
+    /**
+     * Clears the list and fills it with every move of the given color accepted by the engine rules.
+     */
+    void generateLegalMoves(Board board, Color color, MoveList moves);
+}
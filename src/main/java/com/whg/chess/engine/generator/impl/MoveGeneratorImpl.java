@@ -0,0 +1,171 @@
+package com.whg.chess.engine.generator.impl;
+
+import com.whg.chess.engine.generator.MoveGenerator;
+import com.whg.chess.engine.rule.helper.KingUtils;
+import com.whg.chess.engine.rule.helper.RelativePosition;
+import com.whg.chess.engine.rule.helper.SquareTables;
+import com.whg.chess.model.Board;
+import com.whg.chess.model.MoveList;
+import com.whg.chess.model.enums.Color;
+import com.whg.chess.model.enums.PieceName;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates pseudo-legal moves from the bitboards and filters them without making the moves:
+ * in double check only the king may move, in single check other pieces must capture the checker or block it,
+ * pinned pieces stay on the line between their king and the pinner, and the king never steps onto an attacked square.
+ */
+@Component
+@RequiredArgsConstructor
+public class MoveGeneratorImpl implements MoveGenerator {
+
+    private static final int DIRECTIONS = RelativePosition.values().length;
+    private static final long ALL_SQUARES = -1L;
+
+    private final KingUtils kingUtils;
+
+    @Override
+    public void generateLegalMoves(Board board, Color color, MoveList moves) {
+        moves.clear();
+
+        Color opponent = color.getOpposite();
+        long ownPieces = board.getPieces(color);
+        long targets = ~ownPieces & ~board.getPieces(PieceName.KING, opponent) & board.getSquaresMask();
+
+        int kingSquare = board.findKing(color);
+        long evasions = ALL_SQUARES;
+        long pinned = 0L;
+
+        if (kingSquare != Board.NO_SQUARE) {
+            generateKingMoves(board, opponent, kingSquare, targets, moves);
+
+            long checkers = kingUtils.getAttackers(board, kingSquare, opponent, board.getOccupied());
+            if (Long.bitCount(checkers) > 1) {
+                return;
+            }
+            if (checkers != 0) {
+                evasions = checkers | SquareTables.between(kingSquare, Long.numberOfTrailingZeros(checkers));
+            }
+
+            pinned = getPinnedPieces(board, color, kingSquare);
+        }
+
+        for (long pieces = ownPieces & ~board.getPieces(PieceName.KING, color); pieces != 0; pieces &= pieces - 1) {
+            int from = Long.numberOfTrailingZeros(pieces);
+
+            long destinations = getDestinations(board, color, from) & targets & evasions;
+            if ((pinned & Board.bit(from)) != 0) {
+                destinations &= SquareTables.ray(SquareTables.direction(kingSquare, from), kingSquare);
+            }
+
+            addMoves(from, destinations, moves);
+        }
+    }
+
+    private void generateKingMoves(Board board, Color opponent, int kingSquare, long targets, MoveList moves) {
+        long occupiedWithoutKing = board.getOccupied() & ~Board.bit(kingSquare);
+
+        for (long destinations = SquareTables.kingSteps(kingSquare) & targets; destinations != 0; destinations &= destinations - 1) {
+            int to = Long.numberOfTrailingZeros(destinations);
+
+            if (!kingUtils.isSquareAttacked(board, to, opponent, occupiedWithoutKing)) {
+                moves.add(kingSquare, to);
+            }
+        }
+    }
+
+    private long getPinnedPieces(Board board, Color color, int kingSquare) {
+        Color opponent = color.getOpposite();
+        long queens = board.getPieces(PieceName.QUEEN, opponent);
+        long lineAttackers = board.getPieces(PieceName.ROOK, opponent) | queens;
+        long diagonalAttackers = board.getPieces(PieceName.BISHOP, opponent) | queens;
+
+        long pinned = 0L;
+
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            long blockers = SquareTables.ray(direction, kingSquare) & board.getOccupied();
+            if (blockers == 0) {
+                continue;
+            }
+
+            long firstBlocker = Board.bit(SquareTables.nearest(direction, blockers));
+            long behindFirstBlocker = blockers & ~firstBlocker;
+            if ((firstBlocker & board.getPieces(color)) == 0 || behindFirstBlocker == 0) {
+                continue;
+            }
+
+            long pinners = SquareTables.isDiagonal(direction) ? diagonalAttackers : lineAttackers;
+            if ((pinners & Board.bit(SquareTables.nearest(direction, behindFirstBlocker))) != 0) {
+                pinned |= firstBlocker;
+            }
+        }
+
+        return pinned;
+    }
+
+    private long getDestinations(Board board, Color color, int from) {
+        switch (board.getPieceName(from)) {
+            case PAWN:
+                return getPawnDestinations(board, color, from);
+            case KNIGHT:
+                return SquareTables.knightJumps(from);
+            case BISHOP:
+                return getSlidingDestinations(board, from, true, false);
+            case ROOK:
+                return getSlidingDestinations(board, from, false, true);
+            case QUEEN:
+                return getSlidingDestinations(board, from, true, true);
+            default:
+                return 0L;
+        }
+    }
+
+    private long getSlidingDestinations(Board board, int from, boolean diagonals, boolean lines) {
+        long destinations = 0L;
+
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            boolean diagonal = SquareTables.isDiagonal(direction);
+            if (diagonal ? !diagonals : !lines) {
+                continue;
+            }
+
+            long ray = SquareTables.ray(direction, from);
+            long blockers = ray & board.getOccupied();
+            if (blockers != 0) {
+                ray &= ~SquareTables.ray(direction, SquareTables.nearest(direction, blockers));
+            }
+
+            destinations |= ray;
+        }
+
+        return destinations;
+    }
+
+    private long getPawnDestinations(Board board, Color color, int from) {
+        long destinations = SquareTables.pawnCaptures(color, from) & board.getPieces(color.getOpposite());
+
+        int row = Board.rowOf(from);
+        int column = Board.columnOf(from);
+        int rowIncrementer = color == Color.WHITE ? 1 : -1;
+        int startingRow = color == Color.WHITE ? 1 : board.getSize() - 2;
+
+        int oneSquareAhead = row + rowIncrementer;
+        if (board.isOnBoard(oneSquareAhead, column) && !board.isOccupied(Board.squareOf(oneSquareAhead, column))) {
+            destinations |= Board.bit(Board.squareOf(oneSquareAhead, column));
+
+            int twoSquaresAhead = oneSquareAhead + rowIncrementer;
+            if (row == startingRow && board.isOnBoard(twoSquaresAhead, column) && !board.isOccupied(Board.squareOf(twoSquaresAhead, column))) {
+                destinations |= Board.bit(Board.squareOf(twoSquaresAhead, column));
+            }
+        }
+
+        return destinations;
+    }
+
+    private void addMoves(int from, long destinations, MoveList moves) {
+        for (; destinations != 0; destinations &= destinations - 1) {
+            moves.add(from, Long.numberOfTrailingZeros(destinations));
+        }
+    }
+}
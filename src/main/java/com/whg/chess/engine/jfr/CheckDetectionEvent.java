@@ -0,0 +1,49 @@
+package com.whg.chess.engine.jfr;
+
+import com.whg.chess.model.enums.Color;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Check detection by {@link com.whg.chess.engine.rule.helper.KingUtils#isKingUnderAttack}, telling apart answers
+ * taken from the check cache of the board from positions that had to be scanned.
+ */
+@Name("com.whg.chess.CheckDetection")
+@Label("Check Detection")
+@Description("Test whether a king is under attack")
+@Category("Chess")
+@Enabled(false)
+@Threshold("1 ms")
+@StackTrace(false)
+public class CheckDetectionEvent extends Event {
+
+    @Label("King Color")
+    String kingColor;
+
+    @Label("Under Attack")
+    boolean underAttack;
+
+    @Label("Cached")
+    boolean cached;
+
+    private static final EventGuard<CheckDetectionEvent> GUARD = new EventGuard<>(CheckDetectionEvent::new);
+
+    static CheckDetectionEvent beginIfRecording() {
+        return GUARD.beginIfRecording();
+    }
+
+    public void commitIfRecording(Color kingColor, boolean underAttack, boolean cached) {
+        if (shouldCommit()) {
+            this.kingColor = String.valueOf(kingColor);
+            this.underAttack = underAttack;
+            this.cached = cached;
+            commit();
+        }
+    }
+}
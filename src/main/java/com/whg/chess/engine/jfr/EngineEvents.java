@@ -0,0 +1,31 @@
+package com.whg.chess.engine.jfr;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Entry point of the engine to its events. Loading an event class initialises the flight recorder, which costs
+ * hundreds of milliseconds of startup, so the event classes are only touched once a recording has been created,
+ * whether at startup, through {@code jcmd JFR.start} or through the {@link jdk.jfr.Recording} API.
+ * Each method returns {@code null} when the event is not recorded.
+ * <p>
+ * By default the events only record validations slower than 1 ms and without stack traces, so a recording started
+ * with the default settings catches spikes rather than every move. Check detection, run several times per move,
+ * has to be enabled explicitly.
+ */
+public final class EngineEvents {
+
+    private EngineEvents() {
+    }
+
+    public static MoveValidationEvent beginMoveValidation() {
+        return FlightRecorder.isInitialized() ? MoveValidationEvent.beginIfRecording() : null;
+    }
+
+    public static RulePhaseEvent beginRulePhase() {
+        return FlightRecorder.isInitialized() ? RulePhaseEvent.beginIfRecording() : null;
+    }
+
+    public static CheckDetectionEvent beginCheckDetection() {
+        return FlightRecorder.isInitialized() ? CheckDetectionEvent.beginIfRecording() : null;
+    }
+}
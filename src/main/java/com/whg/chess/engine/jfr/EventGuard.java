@@ -0,0 +1,34 @@
+package com.whg.chess.engine.jfr;
+
+import jdk.jfr.Event;
+
+import java.util.function.Supplier;
+
+/**
+ * Creates events of one type only while that type is recorded. Escape analysis alone does not reliably remove the
+ * allocation of unrecorded events, so a JVM that is not recording would otherwise pay for an event per call.
+ * Events fill in their fields only when {@link Event#shouldCommit()} holds, which spares the strings as well.
+ */
+final class EventGuard<E extends Event> {
+
+    private final Supplier<E> factory;
+    private final E probe;
+
+    EventGuard(Supplier<E> factory) {
+        this.factory = factory;
+        this.probe = factory.get();
+    }
+
+    /**
+     * Begins a new event or returns {@code null} when the event type is not recorded.
+     */
+    E beginIfRecording() {
+        if (!probe.isEnabled()) {
+            return null;
+        }
+
+        E event = factory.get();
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,33 @@
+package com.whg.chess.engine.jfr;
+
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Coordinates;
+import com.whg.chess.model.Move;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Fields shared by the engine events describing the move being validated.
+ */
+@Category("Chess")
+abstract class MoveEvent extends Event {
+
+    @Label("Color")
+    String color;
+
+    @Label("Move")
+    String move;
+
+    @Label("Piece")
+    String piece;
+
+    /**
+     * @param pieceSquare square the moving piece stands on in the given position, i.e. the target once the move is made
+     */
+    void setMove(Board board, Move move, Coordinates pieceSquare) {
+        this.color = String.valueOf(move.getColor());
+        this.move = move.getFrom() + "" + move.getTo();
+        this.piece = String.valueOf(board.getPieceName(pieceSquare));
+    }
+}
@@ -0,0 +1,46 @@
+package com.whg.chess.engine.jfr;
+
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.MoveOutcome;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Validation of a single move through all rule phases, emitted by {@link com.whg.chess.engine.GameEngine#tryMove}.
+ */
+@Name("com.whg.chess.MoveValidation")
+@Label("Move Validation")
+@Description("Validation of a move by all rules and the resulting check status")
+@Threshold("1 ms")
+@StackTrace(false)
+public class MoveValidationEvent extends MoveEvent {
+
+    @Label("Legal")
+    boolean legal;
+
+    @Label("Failure")
+    String failure;
+
+    @Label("Opponent In Check")
+    boolean opponentInCheck;
+
+    private static final EventGuard<MoveValidationEvent> GUARD = new EventGuard<>(MoveValidationEvent::new);
+
+    static MoveValidationEvent beginIfRecording() {
+        return GUARD.beginIfRecording();
+    }
+
+    public void commitIfRecording(Board board, Move move, MoveOutcome outcome) {
+        if (shouldCommit()) {
+            setMove(board, move, move.getFrom());
+            legal = outcome.isLegal();
+            failure = outcome.isLegal() ? null : String.valueOf(outcome.getFailureCode());
+            opponentInCheck = outcome.isLegal() && outcome.isOpponentInCheck();
+            commit();
+        }
+    }
+}
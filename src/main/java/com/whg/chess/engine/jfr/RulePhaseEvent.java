@@ -0,0 +1,57 @@
+package com.whg.chess.engine.jfr;
+
+import com.whg.chess.engine.rule.Rule;
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Coordinates;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.ValidationResult;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One phase of move validation: the general rules, the rule of the moving piece or the rules checking the position
+ * after the move. A rejected move names the rule that rejected it.
+ */
+@Name("com.whg.chess.RulePhase")
+@Label("Rule Phase")
+@Description("Validation of a move by the rules of one phase")
+@Threshold("1 ms")
+@StackTrace(false)
+public class RulePhaseEvent extends MoveEvent {
+
+    public static final String GENERAL = "general";
+    public static final String PIECE = "piece";
+    public static final String POST_MOVE = "post-move";
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Passed")
+    boolean passed;
+
+    @Label("Rejected By")
+    String rule;
+
+    @Label("Failure")
+    String failure;
+
+    private static final EventGuard<RulePhaseEvent> GUARD = new EventGuard<>(RulePhaseEvent::new);
+
+    static RulePhaseEvent beginIfRecording() {
+        return GUARD.beginIfRecording();
+    }
+
+    public void commitIfRecording(String phase, Board board, Move move, Coordinates pieceSquare, Rule rejectedBy, ValidationResult result) {
+        if (shouldCommit()) {
+            setMove(board, move, pieceSquare);
+            this.phase = phase;
+            passed = result.isSuccess();
+            rule = rejectedBy == null ? null : rejectedBy.getClass().getSimpleName();
+            failure = result.isSuccess() ? null : String.valueOf(result.getFailureCode());
+            commit();
+        }
+    }
+}
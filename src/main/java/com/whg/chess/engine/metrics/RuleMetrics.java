@@ -0,0 +1,94 @@
+package com.whg.chess.engine.metrics;
+
+import org.springframework.stereotype.Component;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of the {@link RuleStats} of every rule, in the order the rules were registered.
+ * Components look their stats up once when they are created and record into them directly afterwards,
+ * so the hot path does no map lookups.
+ */
+@Component
+public class RuleMetrics {
+
+    public static final String JMX_DOMAIN = "com.whg.chess";
+
+    private static final String SUMMARY_FORMAT = "%-28s %12s %10s %10s %12s%n";
+
+    private final Map<String, RuleStats> stats = new LinkedHashMap<>();
+
+    public synchronized RuleStats statsFor(String name) {
+        return stats.computeIfAbsent(name, RuleStats::new);
+    }
+
+    public RuleStats statsFor(Class<?> type) {
+        return statsFor(type.getSimpleName());
+    }
+
+    public synchronized List<RuleStats> getStats() {
+        return new ArrayList<>(stats.values());
+    }
+
+    public void reset() {
+        getStats().forEach(RuleStats::reset);
+    }
+
+    /**
+     * Formats the stats as a table with one line per rule.
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder(String.format(SUMMARY_FORMAT, "Rule", "Invocations", "Failures", "Mean ns", "Total ms"));
+
+        for (RuleStats ruleStats : getStats()) {
+            summary.append(String.format(SUMMARY_FORMAT, ruleStats.getName(), ruleStats.getInvocations(), ruleStats.getFailures(),
+                    ruleStats.getMeanNanos(), String.format("%.3f", ruleStats.getEstimatedTotalNanos() / 1e6)));
+        }
+
+        return summary.toString();
+    }
+
+    /**
+     * Publishes the stats of every rule as {@code com.whg.chess:type=RuleStats,name=<rule>} on the platform MBean server.
+     */
+    public void registerMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        for (RuleStats ruleStats : getStats()) {
+            try {
+                server.registerMBean(ruleStats, objectNameOf(ruleStats));
+            } catch (InstanceAlreadyExistsException e) {
+                // registered by an earlier run in the same JVM
+            } catch (JMException e) {
+                throw new IllegalStateException("Could not register the stats of " + ruleStats.getName(), e);
+            }
+        }
+    }
+
+    public void unregisterMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        for (RuleStats ruleStats : getStats()) {
+            try {
+                server.unregisterMBean(objectNameOf(ruleStats));
+            } catch (InstanceNotFoundException e) {
+                // never registered
+            } catch (JMException e) {
+                throw new IllegalStateException("Could not unregister the stats of " + ruleStats.getName(), e);
+            }
+        }
+    }
+
+    public static ObjectName objectNameOf(RuleStats ruleStats) throws JMException {
+        return new ObjectName(JMX_DOMAIN + ":type=RuleStats,name=" + ObjectName.quote(ruleStats.getName()));
+    }
+}
@@ -0,0 +1,89 @@
+package com.whg.chess.engine.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a single rule: how often it validated a move, how often it rejected one and how long it took.
+ * Every invocation is counted, but only one in {@link #SAMPLING_INTERVAL} is timed, because reading the clock
+ * twice would cost as much as the cheaper rules themselves. Counters are {@link LongAdder}s, so replays running
+ * in parallel do not contend on them.
+ */
+public class RuleStats implements RuleStatsMXBean {
+
+    public static final int SAMPLING_INTERVAL = 16;
+
+    private static final int SAMPLING_MASK = SAMPLING_INTERVAL - 1;
+    private static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private final String name;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timedInvocations = new LongAdder();
+    private final LongAdder timedNanos = new LongAdder();
+
+    public RuleStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Starts timing an invocation if it is sampled. The returned value is passed to {@link #record(long, boolean)}.
+     */
+    public long start() {
+        return (ThreadLocalRandom.current().nextInt() & SAMPLING_MASK) == 0 ? System.nanoTime() : NOT_TIMED;
+    }
+
+    public void record(long start, boolean failed) {
+        if (start != NOT_TIMED) {
+            timedNanos.add(System.nanoTime() - start);
+            timedInvocations.increment();
+        }
+        invocations.increment();
+        if (failed) {
+            failures.increment();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    long getTimedInvocations() {
+        return timedInvocations.sum();
+    }
+
+    /**
+     * Mean duration of the timed invocations or 0 when none has been timed yet.
+     */
+    @Override
+    public long getMeanNanos() {
+        long timed = timedInvocations.sum();
+        return timed == 0 ? 0 : timedNanos.sum() / timed;
+    }
+
+    /**
+     * Time spent in all invocations extrapolated from the timed ones.
+     */
+    @Override
+    public long getEstimatedTotalNanos() {
+        return getMeanNanos() * getInvocations();
+    }
+
+    public void reset() {
+        invocations.reset();
+        failures.reset();
+        timedInvocations.reset();
+        timedNanos.reset();
+    }
+}
@@ -0,0 +1,17 @@
+package com.whg.chess.engine.metrics;
+
+/**
+ * Read-only JMX view of the {@link RuleStats} of a single rule.
+ */
+public interface RuleStatsMXBean {
+
+    String getName();
+
+    long getInvocations();
+
+    long getFailures();
+
+    long getMeanNanos();
+
+    long getEstimatedTotalNanos();
+}
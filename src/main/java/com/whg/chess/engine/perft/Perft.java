@@ -0,0 +1,68 @@
+package com.whg.chess.engine.perft;
+
+import com.whg.chess.engine.GameEngine;
+import com.whg.chess.model.Board;
+import com.whg.chess.model.MoveList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the leaf nodes of the legal move tree ("perft") by making and taking back every generated move in place.
+ * The side to move is taken from the board.
+ */
+@Component
+@RequiredArgsConstructor
+public class Perft {
+
+    /**
+     * Node counts of the starting position indexed by depth. There is no castling, en passant or promotion
+     * in this engine, so depth 5 is the well-known 4,865,609 minus 258 en passant captures;
+     * the shallower depths are not affected.
+     */
+    public static final long[] STARTING_POSITION_NODES = {1L, 20L, 400L, 8_902L, 197_281L, 4_865_351L};
+
+    private final GameEngine gameEngine;
+
+    public PerftResult run(Board board, int depth) {
+        long start = System.nanoTime();
+        long nodes = countNodes(board, depth);
+
+        return new PerftResult(depth, nodes, System.nanoTime() - start);
+    }
+
+    public long countNodes(Board board, int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("Depth must not be negative: " + depth);
+        }
+
+        MoveList[] movesByDepth = new MoveList[depth + 1];
+        for (int i = 0; i <= depth; i++) {
+            movesByDepth[i] = new MoveList();
+        }
+
+        return countNodes(board, depth, movesByDepth);
+    }
+
+    private long countNodes(Board board, int depth, MoveList[] movesByDepth) {
+        if (depth == 0) {
+            return 1L;
+        }
+
+        MoveList moves = movesByDepth[depth];
+        gameEngine.generateLegalMoves(board, board.getSideToMove(), moves);
+
+        if (depth == 1) {
+            return moves.size();
+        }
+
+        long nodes = 0L;
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.getFrom(i), moves.getTo(i));
+            nodes += countNodes(board, depth - 1, movesByDepth);
+            board.unmakeMove();
+        }
+
+        return nodes;
+    }
+
+}
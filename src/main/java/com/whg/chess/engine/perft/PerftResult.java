@@ -0,0 +1,16 @@
+package com.whg.chess.engine.perft;
+
+import lombok.Data;
+
+import java.util.concurrent.TimeUnit;
+
+@Data
+public class PerftResult {
+    private final int depth;
+    private final long nodes;
+    private final long nanos;
+
+    public long getNodesPerSecond() {
+        return nanos == 0 ? 0 : (long) ((double) nodes * TimeUnit.SECONDS.toNanos(1) / nanos);
+    }
+}
@@ -0,0 +1,70 @@
+package com.whg.chess.engine.replay;
+
+import com.whg.chess.engine.GameEngine;
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.input.MoveReaderAdapter;
+import com.whg.chess.input.exception.ReaderException;
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.MoveOutcome;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Replays a game file from the starting position until its end or its first illegal move.
+ * Games share no state, so any number of them can be replayed in parallel.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameReplayer {
+
+    private static final BiConsumer<Move, MoveOutcome> NO_LISTENER = (move, outcome) -> {
+    };
+
+    private final GameEngine gameEngine;
+    private final BoardFactory boardFactory;
+    private final MoveReaderAdapter moveReaderAdapter;
+
+    public GameSummary replay(String location) {
+        try (Stream<Move> moves = moveReaderAdapter.streamMoves(location)) {
+            return replay(location, moves.iterator(), NO_LISTENER);
+        } catch (ReaderException e) {
+            return new GameSummary(location, 0, null, e.getMessage(), 0);
+        }
+    }
+
+    /**
+     * Replays the moves reporting the outcome of every validated move to the listener.
+     * Moves are pulled from the iterator one at a time, none is read after the first illegal one.
+     */
+    public GameSummary replay(String game, Iterator<Move> moves, BiConsumer<Move, MoveOutcome> listener) {
+        Board board = boardFactory.getStartingBoard();
+        int movesApplied = 0;
+        int checkedKings = 0;
+
+        try {
+            while (moves.hasNext()) {
+                Move move = moves.next();
+                MoveOutcome outcome = gameEngine.tryMove(board, move);
+                listener.accept(move, outcome);
+
+                if (!outcome.isLegal()) {
+                    return new GameSummary(game, movesApplied, move, outcome.getExplanation(), checkedKings);
+                }
+
+                board = outcome.getBoard();
+                checkedKings = outcome.getCheckedKings();
+                movesApplied++;
+            }
+        } catch (ReaderException e) {
+            return new GameSummary(game, movesApplied, null, e.getMessage(), checkedKings);
+        }
+
+        return new GameSummary(game, movesApplied, null, null, checkedKings);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.whg.chess.engine.replay;
+
+import com.whg.chess.model.Move;
+import com.whg.chess.model.enums.Color;
+import lombok.Data;
+
+/**
+ * Result of replaying one game: how many moves were applied, the first illegal move with the reason
+ * and the check status of the kings in the last legal position.
+ */
+@Data
+public class GameSummary {
+    private final String game;
+    private final int movesApplied;
+    private final Move illegalMove;
+
+    /**
+     * Why the game stopped: the explanation of the illegal move or the read error, {@code null} if the whole game is legal.
+     */
+    private final String failure;
+
+    /**
+     * Colors whose king is in check at the end, one bit per {@link Color#ordinal()}.
+     */
+    private final int checkedKings;
+
+    public boolean isValid() {
+        return failure == null;
+    }
+
+    public boolean isInCheck(Color kingColor) {
+        return (checkedKings & 1 << kingColor.ordinal()) != 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder(game).append(": ").append(movesApplied).append(" moves applied");
+
+        if (illegalMove != null) {
+            summary.append(", illegal move ").append(illegalMove);
+        }
+        if (failure != null) {
+            summary.append(", ").append(failure);
+        }
+        for (Color color : Color.values()) {
+            if (isInCheck(color)) {
+                summary.append(", ").append(color).append(" King is in check");
+            }
+        }
+
+        return summary.toString();
+    }
+}
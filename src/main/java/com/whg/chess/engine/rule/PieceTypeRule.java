@@ -0,0 +1,18 @@
+package com.whg.chess.engine.rule;
+
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.enums.PieceName;
+
+/**
+ * A rule validating moves of a single piece type.
+ * The engine dispatches moves to these rules by the name of the moving piece instead of asking every rule.
+ */
+public interface PieceTypeRule extends Rule {
+    PieceName getPieceName();
+
+    @Override
+    default Boolean canValidate(Board board, Move move) {
+        return board.getPieceName(move.getFrom()) == getPieceName();
+    }
+}
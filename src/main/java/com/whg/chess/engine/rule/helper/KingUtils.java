@@ -1,50 +1,124 @@
 package com.whg.chess.engine.rule.helper;
 
-import com.whg.chess.engine.rule.Rule;
-import com.whg.chess.engine.rule.impl.piece.PieceRule;
-import com.whg.chess.model.*;
+import com.whg.chess.engine.jfr.CheckDetectionEvent;
+import com.whg.chess.engine.jfr.EngineEvents;
+import com.whg.chess.engine.metrics.RuleMetrics;
+import com.whg.chess.engine.metrics.RuleStats;
+import com.whg.chess.model.Board;
 import com.whg.chess.model.enums.Color;
 import com.whg.chess.model.enums.PieceName;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Optional;
-
+/**
+ * Detects attacks on a square the "super-piece" way: instead of asking every opponent's piece whether it can reach
+ * the square, it casts rays, knight jumps, king steps and pawn diagonals outward from the square and stops at the
+ * first blocker in every direction.
+ */
 @Component
 public class KingUtils {
 
-    private final List<Rule> pieceRules;
+    private static final int DIRECTIONS = RelativePosition.values().length;
+    private static final Color[] COLORS = Color.values();
+
+    /**
+     * Counts the scans for checks, i.e. cache misses of {@link #getCheckedKings(Board)}, failures being the scans finding a king in check.
+     */
+    private final RuleStats checkScanStats;
 
-    public KingUtils(@PieceRule @Lazy List<Rule> pieceRules) {
-        this.pieceRules = pieceRules;
+    public KingUtils(RuleMetrics ruleMetrics) {
+        this.checkScanStats = ruleMetrics.statsFor(KingUtils.class);
     }
 
     public boolean isKingUnderAttack(Board board, Color kingColor) {
-        Optional<Square> squAreWithKing = board.getSquaresWithPieces(kingColor)
-                .stream()
-                .filter(square -> square.getPiece() != null)
-                .filter(square -> square.getPiece().getName() == PieceName.KING)
-                .findFirst();
-
-        if (squAreWithKing.isPresent()) {
-            List<Square> opponentsPieces = board.getSquaresWithPieces(kingColor.getOpposite());
-
-            return opponentsPieces
-                    .stream()
-                    .anyMatch(attackingPieceSquare -> isKingUnderAttack(board, squAreWithKing.get().getCoordinates(), attackingPieceSquare));
-        } else {
-            return false;
+        CheckDetectionEvent event = EngineEvents.beginCheckDetection();
+        if (event == null) {
+            return (getCheckedKings(board) & checkBit(kingColor)) != 0;
+        }
+
+        boolean cached = board.getCheckedKings() != Board.CHECKS_NOT_COMPUTED;
+        boolean underAttack = (getCheckedKings(board) & checkBit(kingColor)) != 0;
+
+        event.commitIfRecording(kingColor, underAttack, cached);
+        return underAttack;
+    }
+
+    /**
+     * Returns the colors whose king is attacked as one bit per {@link Color#ordinal()}. Both kings are probed at once
+     * and the result is cached on the board, so asking for the mover and then for the opponent after a move
+     * scans the position only once.
+     */
+    public int getCheckedKings(Board board) {
+        int checkedKings = board.getCheckedKings();
+
+        if (checkedKings == Board.CHECKS_NOT_COMPUTED) {
+            long start = checkScanStats.start();
+            checkedKings = 0;
+            for (Color color : COLORS) {
+                int kingSquare = board.findKing(color);
+                if (kingSquare != Board.NO_SQUARE && isSquareAttacked(board, kingSquare, color.getOpposite(), board.getOccupied())) {
+                    checkedKings |= checkBit(color);
+                }
+            }
+            board.setCheckedKings(checkedKings);
+            checkScanStats.record(start, checkedKings != 0);
+        }
+
+        return checkedKings;
+    }
+
+    public static int checkBit(Color color) {
+        return 1 << color.ordinal();
+    }
+
+    /**
+     * Checks whether a piece of the attacker's color can capture on the given square.
+     *
+     * @param occupied occupancy used to find blockers on rays, e.g. without a king that is about to leave its square
+     */
+    public boolean isSquareAttacked(Board board, int square, Color attacker, long occupied) {
+        if ((SquareTables.pawnCaptures(attacker.getOpposite(), square) & board.getPieces(PieceName.PAWN, attacker)) != 0
+                || (SquareTables.knightJumps(square) & board.getPieces(PieceName.KNIGHT, attacker)) != 0
+                || (SquareTables.kingSteps(square) & board.getPieces(PieceName.KING, attacker)) != 0) {
+            return true;
+        }
+
+        long queens = board.getPieces(PieceName.QUEEN, attacker);
+        long lineAttackers = board.getPieces(PieceName.ROOK, attacker) | queens;
+        long diagonalAttackers = board.getPieces(PieceName.BISHOP, attacker) | queens;
+
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            long sliders = SquareTables.isDiagonal(direction) ? diagonalAttackers : lineAttackers;
+            if (sliders != 0 && (sliders & getFirstBlocker(occupied, square, direction)) != 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Collects all pieces of the attacker's color able to capture on the given square.
+     */
+    public long getAttackers(Board board, int square, Color attacker, long occupied) {
+        long attackers = SquareTables.pawnCaptures(attacker.getOpposite(), square) & board.getPieces(PieceName.PAWN, attacker)
+                | SquareTables.knightJumps(square) & board.getPieces(PieceName.KNIGHT, attacker)
+                | SquareTables.kingSteps(square) & board.getPieces(PieceName.KING, attacker);
+
+        long queens = board.getPieces(PieceName.QUEEN, attacker);
+        long lineAttackers = board.getPieces(PieceName.ROOK, attacker) | queens;
+        long diagonalAttackers = board.getPieces(PieceName.BISHOP, attacker) | queens;
+
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            long sliders = SquareTables.isDiagonal(direction) ? diagonalAttackers : lineAttackers;
+            attackers |= sliders & getFirstBlocker(occupied, square, direction);
         }
+
+        return attackers;
     }
 
-    public boolean isKingUnderAttack(Board board, Coordinates squareWithKing, Square attackingPieceSquare) {
-        Move captureKing = new Move(attackingPieceSquare.getPiece().getColor(), attackingPieceSquare.getCoordinates(), squareWithKing);
+    private long getFirstBlocker(long occupied, int square, int direction) {
+        long blockers = SquareTables.ray(direction, square) & occupied;
 
-        return this.pieceRules
-                .stream()
-                .filter(rule -> rule.canValidate(board, captureKing))
-                .map(rule -> rule.validate(board, captureKing))
-                .anyMatch(ValidationResult::isSuccess);
+        return blockers == 0 ? 0L : Board.bit(SquareTables.nearest(direction, blockers));
     }
 }
@@ -2,35 +2,28 @@ package com.whg.chess.engine.rule.helper;
 
 import com.whg.chess.model.Board;
 import com.whg.chess.model.Coordinates;
-import com.whg.chess.model.Square;
 import com.whg.chess.model.ValidationResult;
-import com.whg.chess.model.enums.ValidationStatus;
+import com.whg.chess.model.enums.FailureCode;
 import org.springframework.stereotype.Component;
 
 @Component
 public class PathUtils {
 
+    /**
+     * Checks that no piece stands between two squares on the same line or diagonal
+     * by testing the precomputed between-squares mask against the board occupancy.
+     */
     public ValidationResult validatePathIsNotBlocked(Board board, Coordinates from, Coordinates to) {
-        PositionDiff diff = new PositionDiff(from, to);
+        int fromSquare = Board.squareOf(from);
+        int toSquare = Board.squareOf(to);
 
-        return validatePathIsNotBlockedRecursively(diff.getRelativeLocation(), board, from, to);
-    }
-
-    private ValidationResult validatePathIsNotBlockedRecursively(RelativePosition relativePosition, Board board, Coordinates from, Coordinates to) {
-        int newRow = from.getRow() + relativePosition.getRowIncrementer();
-        int newColumn = from.getColumn() + relativePosition.getColumnIncrementer();
+        long blockers = SquareTables.between(fromSquare, toSquare) & board.getOccupied();
+        if (blockers == 0) {
+            return ValidationResult.PASSED;
+        }
 
-        if (newRow == to.getRow() && newColumn == to.getColumn()) {
-            return new ValidationResult(ValidationStatus.PASSED);
-        } else {
-            Coordinates newCoordinates = new Coordinates(newRow, newColumn);
-            Square square = board.getSquare(newCoordinates);
+        int blocker = SquareTables.nearest(SquareTables.direction(fromSquare, toSquare), blockers);
 
-            if (square.getPiece() != null) {
-                return new ValidationResult(ValidationStatus.FAILED, to + " can't be reached since there is a piece at " + newCoordinates + " on the path");
-            } else {
-                return validatePathIsNotBlockedRecursively(relativePosition, board, newCoordinates, to);
-            }
-        }
+        return ValidationResult.failed(FailureCode.PATH_BLOCKED, to.pack(), Coordinates.ofSquare(blocker).pack());
     }
 }
@@ -0,0 +1,137 @@
+package com.whg.chess.engine.rule.helper;
+
+import com.whg.chess.model.Board;
+import com.whg.chess.model.enums.Color;
+
+/**
+ * Precomputed geometry of the board: rays in every {@link RelativePosition} direction, the squares lying
+ * strictly between two squares on the same line or diagonal and the squares reached by knight jumps,
+ * king steps and pawn captures.
+ * <p>
+ * Tables are built once for {@link Board#MAX_SIZE} and serve any configured board size, because squares between two
+ * squares of a smaller board belong to that board as well. Rays are cut to the board with {@link Board#getSquaresMask()}.
+ */
+public final class SquareTables {
+
+    public static final int NO_DIRECTION = -1;
+
+    private static final int SQUARES = Board.MAX_SIZE * Board.MAX_SIZE;
+    private static final RelativePosition[] DIRECTIONS = RelativePosition.values();
+
+    private static final long[][] RAYS = new long[DIRECTIONS.length][SQUARES];
+    private static final long[][] BETWEEN = new long[SQUARES][SQUARES];
+    private static final byte[][] DIRECTION = new byte[SQUARES][SQUARES];
+    private static final long[] KNIGHT_JUMPS = new long[SQUARES];
+    private static final long[] KING_STEPS = new long[SQUARES];
+    private static final long[][] PAWN_CAPTURES = new long[Color.values().length][SQUARES];
+
+    private static final int[][] KNIGHT_OFFSETS = {
+            {1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}, {-2, 1}, {-1, 2}
+    };
+
+    static {
+        for (int from = 0; from < SQUARES; from++) {
+            int fromRow = Board.rowOf(from);
+            int fromColumn = Board.columnOf(from);
+
+            for (int[] offset : KNIGHT_OFFSETS) {
+                KNIGHT_JUMPS[from] |= maskOf(fromRow + offset[0], fromColumn + offset[1]);
+            }
+            for (RelativePosition direction : DIRECTIONS) {
+                KING_STEPS[from] |= maskOf(fromRow + direction.getRowIncrementer(), fromColumn + direction.getColumnIncrementer());
+            }
+            PAWN_CAPTURES[Color.WHITE.ordinal()][from] = maskOf(fromRow + 1, fromColumn - 1) | maskOf(fromRow + 1, fromColumn + 1);
+            PAWN_CAPTURES[Color.BLACK.ordinal()][from] = maskOf(fromRow - 1, fromColumn - 1) | maskOf(fromRow - 1, fromColumn + 1);
+
+            for (int to = 0; to < SQUARES; to++) {
+                DIRECTION[from][to] = NO_DIRECTION;
+            }
+
+            for (RelativePosition direction : DIRECTIONS) {
+                long passed = 0L;
+                int row = Board.rowOf(from) + direction.getRowIncrementer();
+                int column = Board.columnOf(from) + direction.getColumnIncrementer();
+
+                while (row >= 0 && row < Board.MAX_SIZE && column >= 0 && column < Board.MAX_SIZE) {
+                    int to = Board.squareOf(row, column);
+
+                    BETWEEN[from][to] = passed;
+                    DIRECTION[from][to] = (byte) direction.ordinal();
+                    passed |= Board.bit(to);
+
+                    row += direction.getRowIncrementer();
+                    column += direction.getColumnIncrementer();
+                }
+
+                RAYS[direction.ordinal()][from] = passed;
+            }
+        }
+    }
+
+    private SquareTables() {
+    }
+
+    /**
+     * Squares strictly between the two squares or 0 when they are neither on the same line nor on the same diagonal.
+     */
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+
+    /**
+     * Ordinal of the {@link RelativePosition} leading from one square to another or {@link #NO_DIRECTION}.
+     */
+    public static int direction(int from, int to) {
+        return DIRECTION[from][to];
+    }
+
+    /**
+     * All squares from the given one (exclusive) to the edge of an 8x8 board in the given direction.
+     */
+    public static long ray(int direction, int square) {
+        return RAYS[direction][square];
+    }
+
+    public static long knightJumps(int square) {
+        return KNIGHT_JUMPS[square];
+    }
+
+    public static long kingSteps(int square) {
+        return KING_STEPS[square];
+    }
+
+    /**
+     * Squares a pawn of the given color standing on the square can capture on.
+     */
+    public static long pawnCaptures(Color color, int square) {
+        return PAWN_CAPTURES[color.ordinal()][square];
+    }
+
+    public static boolean isDiagonal(int direction) {
+        return direction != NO_DIRECTION && DIRECTIONS[direction].getRowIncrementer() != 0 && DIRECTIONS[direction].getColumnIncrementer() != 0;
+    }
+
+    public static boolean isLine(int direction) {
+        return direction != NO_DIRECTION && !isDiagonal(direction);
+    }
+
+    /**
+     * Whether square indexes grow when walking in the given direction, i.e. the nearest square on a ray is its lowest bit.
+     */
+    public static boolean isIncreasing(int direction) {
+        RelativePosition position = DIRECTIONS[direction];
+        return position.getRowIncrementer() * Board.MAX_SIZE + position.getColumnIncrementer() > 0;
+    }
+
+    /**
+     * The square of the given mask nearest to the origin of a ray going in the given direction.
+     */
+    public static int nearest(int direction, long squares) {
+        return isIncreasing(direction) ? Long.numberOfTrailingZeros(squares) : 63 - Long.numberOfLeadingZeros(squares);
+    }
+
+    private static long maskOf(int row, int column) {
+        boolean onBoard = row >= 0 && row < Board.MAX_SIZE && column >= 0 && column < Board.MAX_SIZE;
+        return onBoard ? Board.bit(Board.squareOf(row, column)) : 0L;
+    }
+}
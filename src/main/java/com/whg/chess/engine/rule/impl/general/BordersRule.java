@@ -5,10 +5,9 @@ import com.whg.chess.model.Board;
 import com.whg.chess.model.Coordinates;
 import com.whg.chess.model.Move;
 import com.whg.chess.model.ValidationResult;
-import com.whg.chess.model.enums.ValidationStatus;
+import com.whg.chess.model.enums.FailureCode;
 import org.springframework.stereotype.Component;
 
-import java.util.stream.Stream;
 
 @Component
 @GeneralRule
@@ -21,17 +20,16 @@ public class BordersRule implements Rule {
 
     @Override
     public ValidationResult validate(Board board, Move move) {
-        return Stream.of(validateBorders(board, move.getFrom()), validateBorders(board, move.getTo()))
-                .filter(result -> result.getValidationStatus() == ValidationStatus.FAILED)
-                .findFirst()
-                .orElse(new ValidationResult(ValidationStatus.PASSED));
+        ValidationResult fromValidationResult = validateBorders(board, move.getFrom());
+
+        return fromValidationResult.isFailed() ? fromValidationResult : validateBorders(board, move.getTo());
     }
 
     private ValidationResult validateBorders(Board board, Coordinates coordinates) {
-        if (coordinates.getRow() > board.getSize() || coordinates.getColumn() > board.getSize()) {
-            return new ValidationResult(ValidationStatus.FAILED, "The piece is illegal since it goes outside the board borders: " + coordinates);
+        if (!board.isOnBoard(coordinates.getRow(), coordinates.getColumn())) {
+            return ValidationResult.failed(FailureCode.OUTSIDE_BORDERS, coordinates.pack());
         } else {
-            return new ValidationResult(ValidationStatus.PASSED);
+            return ValidationResult.PASSED;
         }
     }
 
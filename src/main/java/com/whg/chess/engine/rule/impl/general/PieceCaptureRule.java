@@ -2,8 +2,8 @@ package com.whg.chess.engine.rule.impl.general;
 
 import com.whg.chess.engine.rule.Rule;
 import com.whg.chess.model.*;
+import com.whg.chess.model.enums.FailureCode;
 import com.whg.chess.model.enums.PieceName;
-import com.whg.chess.model.enums.ValidationStatus;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -12,24 +12,21 @@ public class PieceCaptureRule implements Rule {
 
     @Override
     public Boolean canValidate(Board board, Move move) {
-        Square toSquare = board.getSquare(move.getTo());
-        return toSquare.getPiece() != null;
+        return board.getPiece(move.getTo()) != null;
     }
 
     @Override
     public ValidationResult validate(Board board, Move move) {
-        Square toSquare = board.getSquare(move.getTo());
-
-        Piece pieceToCapture = toSquare.getPiece();
+        Piece pieceToCapture = board.getPiece(move.getTo());
         if (pieceToCapture.getColor() == move.getColor()) {
-            return new ValidationResult(ValidationStatus.FAILED, move.getColor() + " color player is trying to capture their own piece at " + toSquare.getCoordinates());
+            return ValidationResult.failed(FailureCode.OWN_PIECE_CAPTURE, move.getColor().ordinal(), move.getTo().pack());
         }
 
         if (pieceToCapture.getName() == PieceName.KING) {
-            return new ValidationResult(ValidationStatus.FAILED, move.getColor() + " color player is trying to capture an opponent's king at " + toSquare.getCoordinates());
+            return ValidationResult.failed(FailureCode.KING_CAPTURE, move.getColor().ordinal(), move.getTo().pack());
         }
 
-        return new ValidationResult(ValidationStatus.PASSED);
+        return ValidationResult.PASSED;
     }
 
 }
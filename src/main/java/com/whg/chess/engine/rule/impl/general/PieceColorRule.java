@@ -3,10 +3,9 @@ package com.whg.chess.engine.rule.impl.general;
 import com.whg.chess.engine.rule.Rule;
 import com.whg.chess.model.Board;
 import com.whg.chess.model.Move;
-import com.whg.chess.model.Square;
 import com.whg.chess.model.ValidationResult;
 import com.whg.chess.model.enums.Color;
-import com.whg.chess.model.enums.ValidationStatus;
+import com.whg.chess.model.enums.FailureCode;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,20 +14,17 @@ public class PieceColorRule implements Rule {
 
     @Override
     public Boolean canValidate(Board board, Move move) {
-        Square fromSquare = board.getSquare(move.getFrom());
-        return fromSquare.getPiece() != null;
+        return board.getPiece(move.getFrom()) != null;
     }
 
     @Override
     public ValidationResult validate(Board board, Move move) {
-        Square fromSquare = board.getSquare(move.getFrom());
-
-        Color pieceColor = fromSquare.getPiece().getColor();
+        Color pieceColor = board.getPiece(move.getFrom()).getColor();
 
         if (pieceColor != move.getColor()) {
-            return new ValidationResult(ValidationStatus.FAILED, move.getColor() + " color player is trying to capture a piece with a " + pieceColor + " piece.");
+            return ValidationResult.failed(FailureCode.WRONG_PIECE_COLOR, move.getColor().ordinal(), pieceColor.ordinal());
         } else {
-            return new ValidationResult(ValidationStatus.PASSED);
+            return ValidationResult.PASSED;
         }
     }
 
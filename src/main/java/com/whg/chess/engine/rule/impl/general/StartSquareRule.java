@@ -3,9 +3,8 @@ package com.whg.chess.engine.rule.impl.general;
 import com.whg.chess.engine.rule.Rule;
 import com.whg.chess.model.Board;
 import com.whg.chess.model.Move;
-import com.whg.chess.model.Square;
 import com.whg.chess.model.ValidationResult;
-import com.whg.chess.model.enums.ValidationStatus;
+import com.whg.chess.model.enums.FailureCode;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -19,12 +18,10 @@ public class StartSquareRule implements Rule {
 
     @Override
     public ValidationResult validate(Board board, Move move) {
-        Square fromSquare = board.getSquare(move.getFrom());
-
-        if (fromSquare.getPiece() == null) {
-            return new ValidationResult(ValidationStatus.FAILED, "Piece was not found at: " + move.getFrom());
+        if (board.getPiece(move.getFrom()) == null) {
+            return ValidationResult.failed(FailureCode.PIECE_NOT_FOUND, move.getFrom().pack());
         } else {
-            return new ValidationResult(ValidationStatus.PASSED);
+            return ValidationResult.PASSED;
         }
     }
 
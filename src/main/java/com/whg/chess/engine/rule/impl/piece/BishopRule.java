@@ -1,32 +1,24 @@
 package com.whg.chess.engine.rule.impl.piece;
 
-import com.whg.chess.engine.rule.Rule;
-import com.whg.chess.engine.rule.helper.PositionDiff;
+import com.whg.chess.engine.rule.PieceTypeRule;
 import com.whg.chess.engine.rule.helper.PathUtils;
+import com.whg.chess.engine.rule.helper.SquareTables;
 import com.whg.chess.model.*;
+import com.whg.chess.model.enums.FailureCode;
 import com.whg.chess.model.enums.PieceName;
-import com.whg.chess.model.enums.ValidationStatus;
 import lombok.Data;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-
 @Data
 @Component
 @PieceRule
-public class BishopRule implements Rule {
+public class BishopRule implements PieceTypeRule {
 
     private final PathUtils pathUtils;
 
     @Override
-    public Boolean canValidate(Board board, Move move) {
-        Square fromSquare = board.getSquare(move.getFrom());
-
-        return Optional.of(fromSquare)
-                .map(Square::getPiece)
-                .map(Piece::getName)
-                .filter(name -> name == PieceName.BISHOP)
-                .isPresent();
+    public PieceName getPieceName() {
+        return PieceName.BISHOP;
     }
 
     @Override
@@ -34,12 +26,10 @@ public class BishopRule implements Rule {
         Coordinates from = move.getFrom();
         Coordinates to = move.getTo();
 
-        PositionDiff positionDiff = new PositionDiff(from, to);
-
-        if (positionDiff.isTargetOnDiagonal()) {
+        if (SquareTables.isDiagonal(SquareTables.direction(Board.squareOf(from), Board.squareOf(to)))) {
             return pathUtils.validatePathIsNotBlocked(board, from, to);
         } else {
-            return new ValidationResult(ValidationStatus.FAILED, "Bishop at " + from + " can't reach " + to + " since it's not on bishop's diagonal");
+            return ValidationResult.failed(FailureCode.BISHOP_NOT_ON_DIAGONAL, from.pack(), to.pack());
         }
 
     }
@@ -1,21 +1,19 @@
 package com.whg.chess.engine.rule.impl.piece;
 
-import com.whg.chess.engine.rule.Rule;
+import com.whg.chess.engine.rule.PieceTypeRule;
 import com.whg.chess.engine.rule.helper.PositionDiff;
 import com.whg.chess.engine.rule.helper.PathUtils;
 import com.whg.chess.model.*;
 import com.whg.chess.model.enums.Color;
+import com.whg.chess.model.enums.FailureCode;
 import com.whg.chess.model.enums.PieceName;
-import com.whg.chess.model.enums.ValidationStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-
 @Component
 @PieceRule
 @RequiredArgsConstructor
-public class PawnRule implements Rule {
+public class PawnRule implements PieceTypeRule {
 
     public static final int NORMAL_MOVE_DISTANCE = 1;
     public static final int PAWN_CAPTURING_COLUMN_DISTANCE = 1;
@@ -24,22 +22,14 @@ public class PawnRule implements Rule {
     private final PathUtils pathUtils;
 
     @Override
-    public Boolean canValidate(Board board, Move move) {
-        Square fromSquare = board.getSquare(move.getFrom());
-
-        return Optional.of(fromSquare)
-                .map(Square::getPiece)
-                .map(Piece::getName)
-                .filter(name -> name == PieceName.PAWN)
-                .isPresent();
+    public PieceName getPieceName() {
+        return PieceName.PAWN;
     }
 
     @Override
     public ValidationResult validate(Board board, Move move) {
 
-        Square toSquare = board.getSquare(move.getTo());
-
-        if (toSquare.getPiece() != null) {
+        if (board.getPiece(move.getTo()) != null) {
             return validatePieceCapture(move);
         } else {
             return validateMove(board, move);
@@ -51,9 +41,9 @@ public class PawnRule implements Rule {
         PositionDiff positionDiff = new PositionDiff(move);
 
         if (positionDiff.getAbsColDiff() != PAWN_CAPTURING_COLUMN_DISTANCE || positionDiff.getRowDiff() != getAllowedRowDiff(move.getColor())) {
-            return new ValidationResult(ValidationStatus.FAILED, "Pawn located at " + move.getFrom() + " can't capture a piece at " + move.getTo() + " because it's not located 1 square diagonally to the pawn's direction");
+            return ValidationResult.failed(FailureCode.PAWN_INVALID_CAPTURE, move.getFrom().pack(), move.getTo().pack());
         } else {
-            return new ValidationResult(ValidationStatus.PASSED);
+            return ValidationResult.PASSED;
         }
     }
 
@@ -63,7 +53,7 @@ public class PawnRule implements Rule {
         if (positionDiff.isTargetOnSameColumn()) {
             return validateMoveAhead(board, move, positionDiff);
         } else {
-            return new ValidationResult(ValidationStatus.FAILED, "Pawn at " + move.getFrom() + " can be moved vertically only.");
+            return ValidationResult.failed(FailureCode.PAWN_NOT_VERTICAL, move.getFrom().pack());
         }
     }
 
@@ -71,7 +61,7 @@ public class PawnRule implements Rule {
         if (isAllowedToMoveAhead1Square(move.getColor(), positionDiff) || isAllowedToMoveAhead2Squares(move.getColor(), positionDiff, move, board)) {
             return this.pathUtils.validatePathIsNotBlocked(board, move.getFrom(), move.getTo());
         } else {
-            return new ValidationResult(ValidationStatus.FAILED, move.getColor() + " pawn on " + move.getFrom() + " is not allowed to piece to " + move.getTo());
+            return ValidationResult.failed(FailureCode.PAWN_INVALID_MOVE, move.getColor().ordinal(), move.getFrom().pack(), move.getTo().pack());
         }
     }
 
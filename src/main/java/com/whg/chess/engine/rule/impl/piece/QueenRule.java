@@ -1,44 +1,33 @@
 package com.whg.chess.engine.rule.impl.piece;
 
-import com.whg.chess.engine.rule.Rule;
-import com.whg.chess.engine.rule.helper.PositionDiff;
+import com.whg.chess.engine.rule.PieceTypeRule;
 import com.whg.chess.engine.rule.helper.PathUtils;
+import com.whg.chess.engine.rule.helper.SquareTables;
 import com.whg.chess.model.*;
+import com.whg.chess.model.enums.FailureCode;
 import com.whg.chess.model.enums.PieceName;
-import com.whg.chess.model.enums.ValidationStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-
 @Component
 @PieceRule
 @RequiredArgsConstructor
-public class QueenRule implements Rule {
+public class QueenRule implements PieceTypeRule {
 
     private final PathUtils pathUtils;
 
     @Override
-    public Boolean canValidate(Board board, Move move) {
-        Square fromSquare = board.getSquare(move.getFrom());
-
-        return Optional.of(fromSquare)
-                .map(Square::getPiece)
-                .map(Piece::getName)
-                .filter(name -> name == PieceName.QUEEN)
-                .isPresent();
+    public PieceName getPieceName() {
+        return PieceName.QUEEN;
     }
 
     @Override
     public ValidationResult validate(Board board, Move move) {
 
-        PositionDiff diff = new PositionDiff(move);
-
-        if (diff.isTargetOnDiagonal() || diff.isTargetOnLine()) {
+        if (SquareTables.direction(Board.squareOf(move.getFrom()), Board.squareOf(move.getTo())) != SquareTables.NO_DIRECTION) {
             return pathUtils.validatePathIsNotBlocked(board, move.getFrom(), move.getTo());
         } else {
-            return new ValidationResult(ValidationStatus.FAILED, "The queen at " + move.getFrom() + " can't move to " + move.getTo()
-                    + " since the target is neither on the same diagonal nor on the same line");
+            return ValidationResult.failed(FailureCode.QUEEN_NOT_ON_LINE_OR_DIAGONAL, move.getFrom().pack(), move.getTo().pack());
         }
 
     }
@@ -1,32 +1,24 @@
 package com.whg.chess.engine.rule.impl.piece;
 
-import com.whg.chess.engine.rule.Rule;
-import com.whg.chess.engine.rule.helper.PositionDiff;
+import com.whg.chess.engine.rule.PieceTypeRule;
 import com.whg.chess.engine.rule.helper.PathUtils;
+import com.whg.chess.engine.rule.helper.SquareTables;
 import com.whg.chess.model.*;
+import com.whg.chess.model.enums.FailureCode;
 import com.whg.chess.model.enums.PieceName;
-import com.whg.chess.model.enums.ValidationStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-
 @Component
 @PieceRule
 @RequiredArgsConstructor
-public class RookRule implements Rule {
+public class RookRule implements PieceTypeRule {
 
     private final PathUtils pathUtils;
 
     @Override
-    public Boolean canValidate(Board board, Move move) {
-        Square fromSquare = board.getSquare(move.getFrom());
-
-        return Optional.of(fromSquare)
-                .map(Square::getPiece)
-                .map(Piece::getName)
-                .filter(name -> name == PieceName.ROOK)
-                .isPresent();
+    public PieceName getPieceName() {
+        return PieceName.ROOK;
     }
 
     @Override
@@ -35,12 +27,10 @@ public class RookRule implements Rule {
         Coordinates from = move.getFrom();
         Coordinates to = move.getTo();
 
-        PositionDiff positionDiff = new PositionDiff(from, to);
-
-        if (positionDiff.isTargetOnSameColumn() || positionDiff.isTargetOnSameRow()) {
+        if (SquareTables.isLine(SquareTables.direction(Board.squareOf(from), Board.squareOf(to)))) {
             return pathUtils.validatePathIsNotBlocked(board, from, to);
         } else {
-            return new ValidationResult(ValidationStatus.FAILED, "Rook at " + from + " can't reach " + to + " since it's not on the same horizontal/vertical");
+            return ValidationResult.failed(FailureCode.ROOK_NOT_ON_LINE, from.pack(), to.pack());
         }
 
     }
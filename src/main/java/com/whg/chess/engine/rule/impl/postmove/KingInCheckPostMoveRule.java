@@ -5,7 +5,7 @@ import com.whg.chess.engine.rule.helper.KingUtils;
 import com.whg.chess.model.Board;
 import com.whg.chess.model.Move;
 import com.whg.chess.model.ValidationResult;
-import com.whg.chess.model.enums.ValidationStatus;
+import com.whg.chess.model.enums.FailureCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -24,9 +24,9 @@ public class KingInCheckPostMoveRule implements Rule {
     @Override
     public ValidationResult validate(Board board, Move move) {
         if (kingUtils.isKingUnderAttack(board, move.getColor())) {
-            return new ValidationResult(ValidationStatus.FAILED, "The " + move.getColor() + " King is under attack!");
+            return ValidationResult.failed(FailureCode.KING_IN_CHECK, move.getColor().ordinal());
         } else {
-            return new ValidationResult(ValidationStatus.PASSED);
+            return ValidationResult.PASSED;
         }
     }
 
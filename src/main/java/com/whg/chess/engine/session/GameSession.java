@@ -0,0 +1,110 @@
+package com.whg.chess.engine.session;
+
+import com.whg.chess.engine.GameEngine;
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.MoveOutcome;
+import com.whg.chess.model.ValidationResult;
+import com.whg.chess.model.enums.Color;
+import com.whg.chess.model.enums.FailureCode;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A live game: the current position and a mailbox of submitted moves. The mailbox is drained by at most one thread
+ * of the shared executor at a time, so moves of one game are validated one after another in the order of submission
+ * while an idle game holds no thread at all.
+ */
+public class GameSession {
+
+    /**
+     * Moves validated in one go before the session gives its thread to other games.
+     */
+    private static final int MAX_MOVES_PER_TURN = 64;
+
+    private final String id;
+    private final GameEngine gameEngine;
+    private final Executor executor;
+
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private volatile Board board;
+
+    GameSession(String id, Board board, GameEngine gameEngine, Executor executor) {
+        this.id = id;
+        this.board = board;
+        this.gameEngine = gameEngine;
+        this.executor = executor;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * A copy of the current position.
+     */
+    public Board getBoard() {
+        return new Board(board);
+    }
+
+    public Color getSideToMove() {
+        return board.getSideToMove();
+    }
+
+    /**
+     * Queues the move behind the moves submitted before it. The move is rejected if it's not its color's turn.
+     */
+    public CompletableFuture<MoveOutcome> submitMove(Move move) {
+        CompletableFuture<MoveOutcome> outcome = new CompletableFuture<>();
+
+        mailbox.add(() -> {
+            try {
+                outcome.complete(applyMove(move));
+            } catch (RuntimeException e) {
+                outcome.completeExceptionally(e);
+            }
+        });
+        schedule();
+
+        return outcome;
+    }
+
+    private MoveOutcome applyMove(Move move) {
+        Board current = board;
+        if (move.getColor() != current.getSideToMove()) {
+            return MoveOutcome.illegal(ValidationResult.failed(FailureCode.WRONG_TURN, move.getColor().ordinal(), current.getSideToMove().ordinal()));
+        }
+
+        MoveOutcome outcome = gameEngine.tryMove(current, move);
+        if (outcome.isLegal()) {
+            board = outcome.getBoard();
+        }
+
+        return outcome;
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        Runnable task;
+        for (int i = 0; i < MAX_MOVES_PER_TURN && (task = mailbox.poll()) != null; i++) {
+            task.run();
+        }
+
+        scheduled.set(false);
+        if (!mailbox.isEmpty()) {
+            schedule();
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.whg.chess.engine.session;
+
+import com.whg.chess.engine.GameEngine;
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.MoveOutcome;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the open games. All games share one pool sized to the cores and a game occupies a thread
+ * only while it has moves to validate, so the number of open games is limited by memory, not by threads.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameSessionManager implements DisposableBean {
+
+    private final GameEngine gameEngine;
+    private final BoardFactory boardFactory;
+
+    private final ForkJoinPool executor = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+            ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+    private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong lastId = new AtomicLong();
+
+    public GameSession openSession() {
+        String id = Long.toString(lastId.incrementAndGet());
+        GameSession session = new GameSession(id, boardFactory.getStartingBoard(), gameEngine, executor);
+
+        sessions.put(id, session);
+        return session;
+    }
+
+    public Optional<GameSession> findSession(String id) {
+        return Optional.ofNullable(sessions.get(id));
+    }
+
+    /**
+     * Queues the move in the game's mailbox.
+     *
+     * @throws IllegalArgumentException if there is no open game with the id
+     */
+    public CompletableFuture<MoveOutcome> submitMove(String id, Move move) {
+        return findSession(id)
+                .orElseThrow(() -> new IllegalArgumentException("There is no open game with id " + id))
+                .submitMove(move);
+    }
+
+    public boolean closeSession(String id) {
+        return sessions.remove(id) != null;
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.whg.chess.input;
+
+import com.whg.chess.input.exception.ReaderException;
+import com.whg.chess.model.Coordinates;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.enums.Color;
+
+/**
+ * Incremental parser of the vendor move notation, one move per line such as {@code e2e4}, fed byte by byte so that
+ * it works on any buffer without creating a {@code String} per line. Spaces, tabs and carriage returns are skipped,
+ * so {@code e2 e4} and CRLF files are accepted as well, characters after the first four are ignored like the vendor
+ * reader does, and blank lines are skipped.
+ * <p>
+ * Squares are converted the same way as {@link com.whg.chess.input.impl.FileMoveReaderAdapter} does:
+ * the column is the letter offset from {@code a}, the row is flipped for the configured board size.
+ * A parsed move is packed into an {@code int} as four signed bytes (from column, from row, to column, to row),
+ * so coordinates outside of the board reach the rules the same way as with the vendor reader.
+ */
+public class MoveNotationParser {
+
+    private static final int CHARACTERS_PER_MOVE = 4;
+    private static final int BYTE_MASK = 0xFF;
+
+    private final int lastRowIndex;
+    private final int[] characters = new int[CHARACTERS_PER_MOVE];
+
+    private int count;
+    private long line = 1;
+    private int move;
+
+    public MoveNotationParser(int boardSize) {
+        this.lastRowIndex = boardSize - 1;
+    }
+
+    /**
+     * Consumes the next byte of the input.
+     *
+     * @return {@code true} when the byte completes a line holding a move, which is then available via {@link #getMove()}
+     * @throws ReaderException if a completed line is too short to hold a move
+     */
+    public boolean feed(byte value) {
+        switch (value) {
+            case '\n':
+                return completeLine();
+            case ' ':
+            case '\t':
+            case '\r':
+                return false;
+            default:
+                if (count < CHARACTERS_PER_MOVE) {
+                    characters[count] = value;
+                }
+                count++;
+                return false;
+        }
+    }
+
+    /**
+     * Completes the last line of input not terminated by a line break.
+     *
+     * @return {@code true} if the last line holds a move
+     */
+    public boolean finish() {
+        return count > 0 && completeLine();
+    }
+
+    public int getMove() {
+        return move;
+    }
+
+    /**
+     * Number of the line currently being read, starting from 1.
+     */
+    public long getLine() {
+        return line;
+    }
+
+    public static int fromColumnOf(int move) {
+        return (byte) move;
+    }
+
+    public static int fromRowOf(int move) {
+        return (byte) (move >> 8);
+    }
+
+    public static int toColumnOf(int move) {
+        return (byte) (move >> 16);
+    }
+
+    public static int toRowOf(int move) {
+        return (byte) (move >> 24);
+    }
+
+    public static Move toMove(int move, Color color) {
+        return new Move(color, Coordinates.of(fromRowOf(move), fromColumnOf(move)), Coordinates.of(toRowOf(move), toColumnOf(move)));
+    }
+
+    /**
+     * Moves alternate starting with white.
+     */
+    public static Color colorOf(long moveIndex) {
+        return moveIndex % 2 == 0 ? Color.WHITE : Color.BLACK;
+    }
+
+    private boolean completeLine() {
+        int read = count;
+        count = 0;
+        line++;
+
+        if (read == 0) {
+            return false;
+        }
+        if (read < CHARACTERS_PER_MOVE) {
+            throw new ReaderException("The move could not be read at line " + (line - 1));
+        }
+
+        move = pack(convertColumn(characters[0]), convertRow(characters[1]), convertColumn(characters[2]), convertRow(characters[3]));
+        return true;
+    }
+
+    private int convertColumn(int character) {
+        return character - 'a';
+    }
+
+    private int convertRow(int character) {
+        return lastRowIndex - ('8' - character);
+    }
+
+    private static int pack(int fromColumn, int fromRow, int toColumn, int toRow) {
+        return fromColumn & BYTE_MASK | (fromRow & BYTE_MASK) << 8 | (toColumn & BYTE_MASK) << 16 | toRow << 24;
+    }
+}
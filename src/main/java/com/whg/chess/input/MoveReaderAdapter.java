@@ -3,7 +3,14 @@ package com.whg.chess.input;
 import com.whg.chess.model.Move;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MoveReaderAdapter {
     List<Move> readMoves(String location);
+
+    /**
+     * Reads moves lazily one at a time, so memory does not grow with the file and the consumer can stop reading early.
+     * A missing file is reported right away, read errors when the failing move is reached.
+     */
+    Stream<Move> streamMoves(String location);
 }
@@ -1,6 +1,10 @@
 package com.whg.chess.input.exception;
 
 public class ReaderException extends RuntimeException {
+    public ReaderException(String message) {
+        super(message);
+    }
+
     public ReaderException(String message, Throwable cause) {
         super(message, cause);
     }
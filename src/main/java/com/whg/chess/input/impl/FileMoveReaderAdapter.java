@@ -1,6 +1,5 @@
 package com.whg.chess.input.impl;
 
-import com.google.common.collect.Streams;
 import com.whg.chess.config.AppConfig;
 import com.whg.chess.input.MoveReaderAdapter;
 import com.whg.chess.input.exception.ReaderException;
@@ -10,49 +9,49 @@ import com.whg.chess.model.enums.Color;
 import com.whitehatgaming.UserInput;
 import com.whitehatgaming.UserInputFile;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.List;
-import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Component
+@ConditionalOnProperty(prefix = "app", name = "reader", havingValue = "user-input", matchIfMissing = true)
 @RequiredArgsConstructor
 public class FileMoveReaderAdapter implements MoveReaderAdapter {
 
     private final AppConfig appConfig;
 
     @Override
-    @SneakyThrows
     public List<Move> readMoves(String location) {
+        return streamMoves(location).collect(Collectors.toList());
+    }
 
-        try {
-            UserInput userInput = new UserInputFile(location);
-
-            Stream<int[]> streamOfMoves = Stream
-                    .generate(() -> getNextMove(userInput))
-                    .takeWhile(Objects::nonNull);
+    @Override
+    public Stream<Move> streamMoves(String location) {
+        UserInput userInput = openUserInput(location);
 
-            return Streams
-                    .mapWithIndex(streamOfMoves, SimpleImmutableEntry::new)
-                    .map(this::convertMove)
-                    .collect(Collectors.toList());
+        return StreamSupport.stream(new MoveSpliterator(userInput), false);
+    }
 
+    private UserInput openUserInput(String location) {
+        try {
+            return new UserInputFile(location);
         } catch (Exception e) {
             throw new ReaderException("The move could not be read.", e);
         }
     }
 
-    private Move convertMove(SimpleImmutableEntry<int[], Long> entry) {
-        int[] line = entry.getKey();
-
-        Coordinates from = new Coordinates(convertRow(line[1]), line[0]);
-        Coordinates to = new Coordinates(convertRow(line[3]), line[2]);
+    private Move convertMove(int[] line, long index) {
+        Coordinates from = Coordinates.of(convertRow(line[1]), line[0]);
+        Coordinates to = Coordinates.of(convertRow(line[3]), line[2]);
 
-        return new Move(getColor(entry.getValue()), from, to);
+        return new Move(getColor(index), from, to);
     }
 
     private int convertRow(int i) {
@@ -63,7 +62,7 @@ public class FileMoveReaderAdapter implements MoveReaderAdapter {
         return appConfig.getBoardSize() - 1;
     }
 
-    private Color getColor(Long index) {
+    private Color getColor(long index) {
         if (index % 2 == 0) {
             return Color.WHITE;
         } else {
@@ -71,9 +70,37 @@ public class FileMoveReaderAdapter implements MoveReaderAdapter {
         }
     }
 
-    @SneakyThrows
     private int[] getNextMove(UserInput userInput) {
-        return userInput.nextMove();
+        try {
+            return userInput.nextMove();
+        } catch (Exception e) {
+            throw new ReaderException("The move could not be read.", e);
+        }
+    }
+
+    /**
+     * Pulls the next line from the vendor input only when the consumer asks for the next move.
+     */
+    private class MoveSpliterator extends Spliterators.AbstractSpliterator<Move> {
+
+        private final UserInput userInput;
+        private long index;
+
+        MoveSpliterator(UserInput userInput) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.userInput = userInput;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Move> action) {
+            int[] line = getNextMove(userInput);
+            if (line == null) {
+                return false;
+            }
+
+            action.accept(convertMove(line, index++));
+            return true;
+        }
     }
 
 }
@@ -0,0 +1,159 @@
+package com.whg.chess.input.impl;
+
+import com.whg.chess.config.AppConfig;
+import com.whg.chess.input.MoveNotationParser;
+import com.whg.chess.input.MoveReaderAdapter;
+import com.whg.chess.input.exception.ReaderException;
+import com.whg.chess.model.Move;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads move files by memory-mapping them and parsing the bytes in place with {@link MoveNotationParser},
+ * bypassing the vendor reader. Large files are mapped region by region, so there is no limit on the file size.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app", name = "reader", havingValue = "mapped")
+@RequiredArgsConstructor
+public class MappedFileMoveReaderAdapter implements MoveReaderAdapter {
+
+    private static final long MAPPED_REGION_SIZE = 64L * 1024 * 1024;
+
+    private final AppConfig appConfig;
+
+    @Override
+    public List<Move> readMoves(String location) {
+        try (Stream<Move> moves = streamMoves(location)) {
+            return moves.collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public Stream<Move> streamMoves(String location) {
+        MoveCursor cursor = new MoveCursor(location, appConfig.getBoardSize());
+
+        return StreamSupport.stream(new MoveSpliterator(cursor), false).onClose(cursor::close);
+    }
+
+    /**
+     * Passes every move of the file packed as described in {@link MoveNotationParser} to the consumer
+     * without creating any object per move.
+     *
+     * @return the number of moves read
+     */
+    public long readPackedMoves(String location, IntConsumer consumer) {
+        long count = 0;
+
+        try (MoveCursor cursor = new MoveCursor(location, appConfig.getBoardSize())) {
+            while (cursor.next()) {
+                consumer.accept(cursor.getMove());
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private static class MoveCursor implements Closeable {
+
+        private final FileChannel channel;
+        private final long size;
+        private final MoveNotationParser parser;
+
+        private MappedByteBuffer region;
+        private long regionEnd;
+        private boolean finished;
+
+        MoveCursor(String location, int boardSize) {
+            try {
+                this.channel = FileChannel.open(Path.of(location), StandardOpenOption.READ);
+                this.size = channel.size();
+            } catch (IOException | RuntimeException e) {
+                throw new ReaderException("The move could not be read.", e);
+            }
+            this.parser = new MoveNotationParser(boardSize);
+        }
+
+        boolean next() {
+            while (true) {
+                while (region != null && region.hasRemaining()) {
+                    if (parser.feed(region.get())) {
+                        return true;
+                    }
+                }
+
+                if (regionEnd == size) {
+                    if (finished) {
+                        return false;
+                    }
+                    finished = true;
+                    return parser.finish();
+                }
+
+                mapNextRegion();
+            }
+        }
+
+        int getMove() {
+            return parser.getMove();
+        }
+
+        private void mapNextRegion() {
+            long length = Math.min(MAPPED_REGION_SIZE, size - regionEnd);
+
+            try {
+                region = channel.map(FileChannel.MapMode.READ_ONLY, regionEnd, length);
+            } catch (IOException e) {
+                throw new ReaderException("The move could not be read.", e);
+            }
+            regionEnd += length;
+        }
+
+        @Override
+        public void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new ReaderException("The move file could not be closed.", e);
+            }
+        }
+    }
+
+    private static class MoveSpliterator extends Spliterators.AbstractSpliterator<Move> {
+
+        private final MoveCursor cursor;
+        private long index;
+
+        MoveSpliterator(MoveCursor cursor) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Move> action) {
+            if (!cursor.next()) {
+                return false;
+            }
+
+            action.accept(MoveNotationParser.toMove(cursor.getMove(), MoveNotationParser.colorOf(index++)));
+            return true;
+        }
+    }
+
+}
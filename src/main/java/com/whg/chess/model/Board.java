@@ -1,49 +1,328 @@
 package com.whg.chess.model;
 
 import com.whg.chess.model.enums.Color;
-import lombok.Data;
+import com.whg.chess.model.enums.PieceName;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
-@Data
+/**
+ * Position stored as bitboards: one {@code long} per piece type and color plus occupancy masks.
+ * <p>
+ * Square {@code row * MAX_SIZE + column} is bit number {@code square} of every mask, so boards up to 8x8 are supported.
+ * Engine code works with square indexes and masks directly, while {@link #getSquare(Coordinates)} and
+ * {@link #getSquaresWithPieces(Color)} hand out {@link Square} views backed by the bitboards.
+ * <p>
+ * Moves applied through {@link #makeMove(int, int)} are recorded on a primitive undo stack so they can be
+ * taken back with {@link #unmakeMove()}. The stack belongs to this instance and is not copied by {@link #Board(Board)}.
+ * <p>
+ * Every change of pieces or side to move updates a 64-bit Zobrist key incrementally, which makes
+ * {@link #getZobristKey()}, {@link #equals(Object)} and {@link #hashCode()} cheap enough for caches and repetition detection.
+ */
 public class Board {
 
-    private final Square[][] squares;
+    public static final int MAX_SIZE = 8;
+    public static final int NO_SQUARE = -1;
+    public static final int CHECKS_NOT_COMPUTED = -1;
+
+    private static final int PIECE_TYPES = PieceName.values().length;
+    static final int PIECE_CODES = PIECE_TYPES * Color.values().length;
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+    private static final int INITIAL_HISTORY_CAPACITY = 64;
+    private static final int[] NO_HISTORY = new int[0];
+    private static final int SIDE_TO_MOVE_SHIFT = 3 * SQUARE_BITS;
+    private static final Piece[] PIECES = new Piece[PIECE_CODES];
+
+    static {
+        for (Color color : Color.values()) {
+            for (PieceName name : PieceName.values()) {
+                PIECES[pieceIndex(name, color)] = Piece.of(name, color);
+            }
+        }
+    }
+
+    private final int size;
+    private final long squaresMask;
+    private final long[] pieces;
+    private final long[] colors;
+    private long occupied;
+
+    private Color sideToMove = Color.WHITE;
+    private long zobristKey;
+
+    /**
+     * Colors whose king is attacked, one bit per {@link Color#ordinal()}, cached until the pieces change.
+     */
+    private int checkedKings = CHECKS_NOT_COMPUTED;
+
+    private int[] history = NO_HISTORY;
+    private int historySize;
 
     public Board(Integer boardSize) {
-        this.squares = new Square[boardSize][boardSize];
+        if (boardSize < 1 || boardSize > MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be between 1 and " + MAX_SIZE + " but was " + boardSize);
+        }
 
-        initBoard(null);
+        this.size = boardSize;
+        this.squaresMask = computeSquaresMask(boardSize);
+        this.pieces = new long[PIECES.length];
+        this.colors = new long[Color.values().length];
     }
 
     public Board(Board board) {
-        this.squares = new Square[board.getSize()][board.getSize()];
+        this.size = board.size;
+        this.squaresMask = board.squaresMask;
+        this.pieces = board.pieces.clone();
+        this.colors = board.colors.clone();
+        this.occupied = board.occupied;
+        this.sideToMove = board.sideToMove;
+        this.zobristKey = board.zobristKey;
+        this.checkedKings = board.checkedKings;
+    }
+
+    public static int squareOf(int row, int column) {
+        return row * MAX_SIZE + column;
+    }
+
+    public static int squareOf(Coordinates coordinates) {
+        return squareOf(coordinates.getRow(), coordinates.getColumn());
+    }
+
+    public static int rowOf(int square) {
+        return square / MAX_SIZE;
+    }
+
+    public static int columnOf(int square) {
+        return square % MAX_SIZE;
+    }
+
+    public static long bit(int square) {
+        return 1L << square;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Color getSideToMove() {
+        return sideToMove;
+    }
+
+    public void setSideToMove(Color sideToMove) {
+        if (this.sideToMove != sideToMove) {
+            this.sideToMove = sideToMove;
+            this.zobristKey ^= Zobrist.BLACK_TO_MOVE;
+        }
+    }
+
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    /**
+     * Check status cached for the current placement of pieces or {@link #CHECKS_NOT_COMPUTED}.
+     */
+    public int getCheckedKings() {
+        return checkedKings;
+    }
+
+    public void setCheckedKings(int checkedKings) {
+        this.checkedKings = checkedKings;
+    }
+
+    /**
+     * Mask of all squares belonging to this board, i.e. every bit for 8x8 boards.
+     */
+    public long getSquaresMask() {
+        return squaresMask;
+    }
+
+    public boolean isOnBoard(int row, int column) {
+        return row >= 0 && row < size && column >= 0 && column < size;
+    }
+
+    public long getPieces(PieceName name, Color color) {
+        return pieces[pieceIndex(name, color)];
+    }
+
+    public long getPieces(Color color) {
+        return colors[color.ordinal()];
+    }
+
+    public long getOccupied() {
+        return occupied;
+    }
+
+    public boolean isOccupied(int square) {
+        return (occupied & bit(square)) != 0;
+    }
+
+    public Color getColor(int square) {
+        long mask = bit(square);
+
+        if ((colors[Color.WHITE.ordinal()] & mask) != 0) {
+            return Color.WHITE;
+        } else if ((colors[Color.BLACK.ordinal()] & mask) != 0) {
+            return Color.BLACK;
+        } else {
+            return null;
+        }
+    }
+
+    public PieceName getPieceName(int square) {
+        int index = findPieceIndex(square);
+        return index < 0 ? null : PIECES[index].getName();
+    }
+
+    public PieceName getPieceName(Coordinates coordinates) {
+        return getPieceName(toSquare(coordinates));
+    }
+
+    public Piece getPiece(int square) {
+        int index = findPieceIndex(square);
+        return index < 0 ? null : PIECES[index];
+    }
+
+    public Piece getPiece(Coordinates coordinates) {
+        return getPiece(toSquare(coordinates));
+    }
+
+    public void setPiece(Coordinates coordinates, Piece piece) {
+        int square = toSquare(coordinates);
+
+        removePiece(square);
+        if (piece != null) {
+            putPiece(square, piece.getName(), piece.getColor());
+        }
+    }
 
-        initBoard(board);
+    public void putPiece(int square, PieceName name, Color color) {
+        removePiece(square);
+
+        int index = pieceIndex(name, color);
+        long mask = bit(square);
+
+        pieces[index] |= mask;
+        colors[color.ordinal()] |= mask;
+        occupied |= mask;
+        zobristKey ^= Zobrist.pieceKey(index, square);
+        checkedKings = CHECKS_NOT_COMPUTED;
+    }
+
+    public void removePiece(int square) {
+        int index = findPieceIndex(square);
+        if (index < 0) {
+            return;
+        }
+
+        long keep = ~bit(square);
+        pieces[index] &= keep;
+        colors[index / PIECE_TYPES] &= keep;
+        occupied &= keep;
+        zobristKey ^= Zobrist.pieceKey(index, square);
+        checkedKings = CHECKS_NOT_COMPUTED;
+    }
+
+    /**
+     * Moves whatever stands on {@code from} to {@code to}, removing a piece previously located on {@code to}.
+     */
+    public void movePiece(int from, int to) {
+        int index = findPieceIndex(from);
+        if (index < 0) {
+            return;
+        }
+
+        removePiece(to);
+
+        long fromTo = bit(from) | bit(to);
+        pieces[index] ^= fromTo;
+        colors[index / PIECE_TYPES] ^= fromTo;
+        occupied ^= fromTo;
+        zobristKey ^= Zobrist.pieceKey(index, from) ^ Zobrist.pieceKey(index, to);
+        checkedKings = CHECKS_NOT_COMPUTED;
     }
 
-    public Integer getSize() {
-        return squares.length;
+    /**
+     * Moves the piece from {@code from} to {@code to}, hands the move over to the opponent of the moving piece
+     * and records the move, the captured piece and the previous side to move on the undo stack.
+     */
+    public void makeMove(int from, int to) {
+        if (historySize == history.length) {
+            history = Arrays.copyOf(history, Math.max(INITIAL_HISTORY_CAPACITY, historySize * 2));
+        }
+
+        int captured = findPieceIndex(to) + 1;
+        history[historySize++] = from | to << SQUARE_BITS | captured << 2 * SQUARE_BITS | sideToMove.ordinal() << SIDE_TO_MOVE_SHIFT;
+
+        Color mover = getColor(from);
+        movePiece(from, to);
+        if (mover != null) {
+            setSideToMove(mover.getOpposite());
+        }
+    }
+
+    /**
+     * Takes back the last move applied via {@link #makeMove(int, int)} restoring a captured piece if there was one.
+     */
+    public void unmakeMove() {
+        if (historySize == 0) {
+            throw new IllegalStateException("There is no move to take back");
+        }
+
+        int record = history[--historySize];
+        int from = record & SQUARE_MASK;
+        int to = record >>> SQUARE_BITS & SQUARE_MASK;
+        int captured = (record >>> 2 * SQUARE_BITS & SQUARE_MASK) - 1;
+
+        setSideToMove(record >>> SIDE_TO_MOVE_SHIFT == Color.WHITE.ordinal() ? Color.WHITE : Color.BLACK);
+        movePiece(to, from);
+        if (captured >= 0) {
+            putPiece(to, PIECES[captured].getName(), PIECES[captured].getColor());
+        }
+    }
+
+    public int getHistorySize() {
+        return historySize;
+    }
+
+    public int findKing(Color color) {
+        long king = getPieces(PieceName.KING, color);
+        return king == 0 ? NO_SQUARE : Long.numberOfTrailingZeros(king);
     }
 
     public Square getSquare(Coordinates coordinates) {
-        return squares[coordinates.getRow()][coordinates.getColumn()];
+        toSquare(coordinates);
+        return new Square(this, coordinates);
     }
 
     public void setSquare(Square square) {
-        Coordinates coordinates = square.getCoordinates();
+        setPiece(square.getCoordinates(), square.getPiece());
+    }
 
-        squares[coordinates.getRow()][coordinates.getColumn()] = square;
+    public Square[][] getSquares() {
+        Square[][] squares = new Square[size][size];
+
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                squares[row][column] = new Square(this, Coordinates.of(row, column));
+            }
+        }
+
+        return squares;
     }
 
     public List<Square> getSquaresWithPieces(Color color) {
-        return Arrays.stream(squares)
-                .flatMap(Arrays::stream)
-                .filter(square -> square.getPiece() != null)
-                .filter(square -> square.getPiece().getColor() == color)
-                .collect(Collectors.toList());
+        List<Square> squares = new ArrayList<>();
+
+        for (long mask = getPieces(color); mask != 0; mask &= mask - 1) {
+            int square = Long.numberOfTrailingZeros(mask);
+            squares.add(new Square(this, Coordinates.ofSquare(square)));
+        }
+
+        return squares;
     }
 
     public List<Square> getRow(Integer row) {
@@ -51,26 +330,96 @@ public class Board {
     }
 
     public List<Square> getColumn(Integer column) {
-        return Arrays.stream(squares)
-                .flatMap(Arrays::stream)
-                .filter(square -> column.equals(square.getCoordinates().getColumn()))
-                .collect(Collectors.toList());
+        List<Square> squares = new ArrayList<>();
+
+        for (int row = 0; row < size; row++) {
+            squares.add(getSquare(Coordinates.of(row, column)));
+        }
+
+        return squares;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        Board board = (Board) o;
+        return zobristKey == board.zobristKey
+                && size == board.size
+                && sideToMove == board.sideToMove
+                && Arrays.equals(pieces, board.pieces);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(zobristKey);
     }
 
-    private void initBoard(Board board) {
-        for (int row = 0; row < getSize(); row++) {
-            for (int column = 0; column < getSize(); column++) {
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Board(size=").append(size)
+                .append(", sideToMove=").append(sideToMove)
+                .append(", pieces=");
 
-                if (this.squares[row][column] == null) {
-                    this.squares[row][column] = new Square(null, new Coordinates(row, column));
-                }
+        for (long mask = occupied; mask != 0; mask &= mask - 1) {
+            int square = Long.numberOfTrailingZeros(mask);
+            Piece piece = getPiece(square);
 
-                if (board != null) {
-                    Square squareFromBoard = board.getSquare(new Coordinates(row, column));
-                    this.squares[row][column].setPiece(squareFromBoard.getPiece());
-                }
+            Coordinates.ofSquare(square).appendTo(builder)
+                    .append('=')
+                    .append(piece.getColor())
+                    .append(' ')
+                    .append(piece.getName());
 
+            if ((mask & mask - 1) != 0) {
+                builder.append(", ");
             }
         }
+
+        return builder.append(')').toString();
+    }
+
+    private int toSquare(Coordinates coordinates) {
+        int row = Objects.checkIndex(coordinates.getRow(), size);
+        int column = Objects.checkIndex(coordinates.getColumn(), size);
+
+        return squareOf(row, column);
+    }
+
+    private int findPieceIndex(int square) {
+        long mask = bit(square);
+        if ((occupied & mask) == 0) {
+            return -1;
+        }
+
+        int first = (colors[Color.WHITE.ordinal()] & mask) != 0 ? 0 : PIECE_TYPES;
+        for (int i = first; i < first + PIECE_TYPES; i++) {
+            if ((pieces[i] & mask) != 0) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static long computeSquaresMask(int size) {
+        long mask = 0L;
+
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                mask |= bit(squareOf(row, column));
+            }
+        }
+
+        return mask;
+    }
+
+    private static int pieceIndex(PieceName name, Color color) {
+        return color.ordinal() * PIECE_TYPES + name.ordinal();
     }
 }
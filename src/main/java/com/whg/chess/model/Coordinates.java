@@ -1,25 +1,119 @@
 package com.whg.chess.model;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.util.List;
 
+/**
+ * Row and column of a square, zero based. Coordinates of the squares of a {@link Board#MAX_SIZE} board are interned:
+ * {@link #of(int, int)}, {@link #ofSquare(int)} and {@link #of(String)} hand out shared instances, so they can be
+ * compared by identity and looking them up allocates nothing. Coordinates outside of the board, which the rules
+ * have to report, are created on demand.
+ */
 @Data
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class Coordinates {
     public static final List<String> VALID_COLUMNS = List.of("A", "B", "C", "D", "E", "F", "G", "H");
 
-    private final Integer row;
-    private final Integer column;
+    /**
+     * Largest row {@link #pack()} can hold.
+     */
+    private static final int MAX_ROW = Short.MAX_VALUE;
 
+    private static final Coordinates[] SQUARES = new Coordinates[Board.MAX_SIZE * Board.MAX_SIZE];
+    private static final String[] NAMES = new String[SQUARES.length];
+
+    static {
+        for (int square = 0; square < SQUARES.length; square++) {
+            SQUARES[square] = new Coordinates(Board.rowOf(square), Board.columnOf(square));
+            NAMES[square] = format(Board.rowOf(square), Board.columnOf(square));
+        }
+    }
+
+    private final int row;
+    private final int column;
+
+    public static Coordinates of(int row, int column) {
+        return isInterned(row, column) ? SQUARES[Board.squareOf(row, column)] : new Coordinates(row, column);
+    }
+
+    public static Coordinates ofSquare(int square) {
+        return SQUARES[square];
+    }
+
+    /**
+     * Parses notation like {@code e4} or {@code E4} char by char. An unknown column letter gives column -1,
+     * so the move is reported as outside of the board rather than failing to parse.
+     *
+     * @throws NumberFormatException if the row is missing, not a number or too large to be packed
+     */
     public static Coordinates of(String notation) {
-        String column = notation.substring(0, 1);
-        String row = notation.substring(1);
+        if (notation.length() < 2) {
+            throw new NumberFormatException("Missing row in square notation \"" + notation + "\"");
+        }
+
+        int row = 0;
+        for (int i = 1; i < notation.length(); i++) {
+            int digit = Character.digit(notation.charAt(i), 10);
+            if (digit < 0) {
+                throw new NumberFormatException("Invalid row in square notation \"" + notation + "\"");
+            }
+            row = row * 10 + digit;
+            if (row > MAX_ROW) {
+                throw new NumberFormatException("Row out of range in square notation \"" + notation + "\"");
+            }
+        }
+
+        return of(row - 1, columnOf(notation.charAt(0)));
+    }
+
+    /**
+     * Index of the column named by the letter in either case or -1 when there is no such column.
+     */
+    public static int columnOf(char letter) {
+        int column = Character.toUpperCase(letter) - 'A';
+        return column >= 0 && column < Board.MAX_SIZE ? column : -1;
+    }
 
-        return new Coordinates(Integer.parseInt(row) - 1, VALID_COLUMNS.indexOf(column.toUpperCase()));
+    public static char columnName(int column) {
+        return (char) ('A' + column);
+    }
+
+    /**
+     * Packs row and column into a single int, 16 signed bits each, so that coordinates outside of the board survive as well.
+     */
+    public int pack() {
+        return row << 16 | column & 0xFFFF;
+    }
+
+    public static Coordinates unpack(int packed) {
+        return of(packed >> 16, (int) (short) packed);
+    }
+
+    /**
+     * Appends the same text as {@link #toString()}, e.g. {@code E4}, without creating an intermediate string
+     * for coordinates with a valid column.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        return hasValidColumn(column) ? builder.append(columnName(column)).append(row + 1) : builder.append(format(row, column));
     }
 
     @Override
     public String toString() {
-        return VALID_COLUMNS.get(column) + (row + 1);
+        return isInterned(row, column) ? NAMES[Board.squareOf(row, column)] : format(row, column);
+    }
+
+    private static boolean isInterned(int row, int column) {
+        return row >= 0 && row < Board.MAX_SIZE && column >= 0 && column < Board.MAX_SIZE;
+    }
+
+    private static String format(int row, int column) {
+        return hasValidColumn(column) ? VALID_COLUMNS.get(column) + (row + 1) : "(" + row + ", " + column + ")";
+    }
+
+    private static boolean hasValidColumn(int column) {
+        return column >= 0 && column < VALID_COLUMNS.size();
     }
 }
@@ -0,0 +1,103 @@
+package com.whg.chess.model;
+
+import com.whg.chess.model.enums.Color;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of moves packed into {@code int}s as {@code from | to << 6} square indexes.
+ * Instances are meant to be reused: {@link #clear()} keeps the backing array.
+ */
+public class MoveList {
+
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private int[] moves;
+    private int size;
+
+    public MoveList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MoveList(int capacity) {
+        this.moves = new int[capacity];
+    }
+
+    public static int pack(int from, int to) {
+        return from | to << SQUARE_BITS;
+    }
+
+    public static int fromOf(int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static int toOf(int move) {
+        return move >>> SQUARE_BITS & SQUARE_MASK;
+    }
+
+    public void add(int from, int to) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, Math.max(DEFAULT_CAPACITY, size * 2));
+        }
+
+        moves[size++] = pack(from, to);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        return moves[index];
+    }
+
+    public int getFrom(int index) {
+        return fromOf(moves[index]);
+    }
+
+    public int getTo(int index) {
+        return toOf(moves[index]);
+    }
+
+    public boolean contains(int from, int to) {
+        int move = pack(from, to);
+
+        for (int i = 0; i < size; i++) {
+            if (moves[i] == move) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public Move toMove(int index, Color color) {
+        return new Move(color, Coordinates.ofSquare(getFrom(index)), Coordinates.ofSquare(getTo(index)));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+
+        for (int i = 0; i < size; i++) {
+            Coordinates.ofSquare(getFrom(i)).appendTo(builder);
+            Coordinates.ofSquare(getTo(i)).appendTo(builder);
+
+            if (i < size - 1) {
+                builder.append(", ");
+            }
+        }
+
+        return builder.append(']').toString();
+    }
+}
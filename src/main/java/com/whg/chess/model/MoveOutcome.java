@@ -0,0 +1,55 @@
+package com.whg.chess.model;
+
+import com.whg.chess.model.enums.Color;
+import com.whg.chess.model.enums.FailureCode;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Result of trying a move: either the new position with the check status of both kings
+ * or the failed validation explaining why the move is illegal.
+ */
+@Data
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MoveOutcome {
+    private final Board board;
+    private final ValidationResult validationResult;
+    private final Color color;
+
+    /**
+     * Colors whose king is in check in the new position, one bit per {@link Color#ordinal()} as in {@link Board#getCheckedKings()}.
+     */
+    private final int checkedKings;
+
+    public static MoveOutcome legal(Board board, Color color, int checkedKings) {
+        return new MoveOutcome(board, ValidationResult.PASSED, color, checkedKings);
+    }
+
+    public static MoveOutcome illegal(ValidationResult validationResult) {
+        return new MoveOutcome(null, validationResult, null, 0);
+    }
+
+    public boolean isLegal() {
+        return validationResult.isSuccess();
+    }
+
+    public boolean isInCheck(Color kingColor) {
+        return (checkedKings & 1 << kingColor.ordinal()) != 0;
+    }
+
+    /**
+     * Whether the king of the mover's opponent is in check in the new position.
+     */
+    public boolean isOpponentInCheck() {
+        return isLegal() && isInCheck(color.getOpposite());
+    }
+
+    public FailureCode getFailureCode() {
+        return validationResult.getFailureCode();
+    }
+
+    public String getExplanation() {
+        return validationResult.getExplanation();
+    }
+}
@@ -4,8 +4,37 @@ import com.whg.chess.model.enums.Color;
 import com.whg.chess.model.enums.PieceName;
 import lombok.Data;
 
+/**
+ * A piece type of one color. There are only twelve of them, shared through the constants and {@link #of(PieceName, Color)}.
+ */
 @Data
 public class Piece {
+    public static final Piece WHITE_PAWN = new Piece(PieceName.PAWN, Color.WHITE);
+    public static final Piece WHITE_KNIGHT = new Piece(PieceName.KNIGHT, Color.WHITE);
+    public static final Piece WHITE_BISHOP = new Piece(PieceName.BISHOP, Color.WHITE);
+    public static final Piece WHITE_ROOK = new Piece(PieceName.ROOK, Color.WHITE);
+    public static final Piece WHITE_QUEEN = new Piece(PieceName.QUEEN, Color.WHITE);
+    public static final Piece WHITE_KING = new Piece(PieceName.KING, Color.WHITE);
+    public static final Piece BLACK_PAWN = new Piece(PieceName.PAWN, Color.BLACK);
+    public static final Piece BLACK_KNIGHT = new Piece(PieceName.KNIGHT, Color.BLACK);
+    public static final Piece BLACK_BISHOP = new Piece(PieceName.BISHOP, Color.BLACK);
+    public static final Piece BLACK_ROOK = new Piece(PieceName.ROOK, Color.BLACK);
+    public static final Piece BLACK_QUEEN = new Piece(PieceName.QUEEN, Color.BLACK);
+    public static final Piece BLACK_KING = new Piece(PieceName.KING, Color.BLACK);
+
+    /**
+     * All pieces indexed by {@code color.ordinal() * PIECE_TYPES + name.ordinal()}.
+     */
+    private static final Piece[] PIECES = {
+            WHITE_PAWN, WHITE_KNIGHT, WHITE_BISHOP, WHITE_ROOK, WHITE_QUEEN, WHITE_KING,
+            BLACK_PAWN, BLACK_KNIGHT, BLACK_BISHOP, BLACK_ROOK, BLACK_QUEEN, BLACK_KING
+    };
+    private static final int PIECE_TYPES = PieceName.values().length;
+
     private final PieceName name;
     private final Color color;
+
+    public static Piece of(PieceName name, Color color) {
+        return PIECES[color.ordinal() * PIECE_TYPES + name.ordinal()];
+    }
 }
@@ -1,12 +1,51 @@
 package com.whg.chess.model;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import java.util.Objects;
 
-@Data
-@AllArgsConstructor
+/**
+ * A view of a single square backed by the bitboards of its {@link Board}.
+ */
 public class Square {
-    private Piece piece;
+    private final Board board;
     private final Coordinates coordinates;
-}
 
+    Square(Board board, Coordinates coordinates) {
+        this.board = board;
+        this.coordinates = coordinates;
+    }
+
+    public Piece getPiece() {
+        return board.getPiece(coordinates);
+    }
+
+    public void setPiece(Piece piece) {
+        board.setPiece(coordinates, piece);
+    }
+
+    public Coordinates getCoordinates() {
+        return coordinates;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        Square square = (Square) o;
+        return Objects.equals(getPiece(), square.getPiece()) && coordinates.equals(square.coordinates);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getPiece(), coordinates);
+    }
+
+    @Override
+    public String toString() {
+        return "Square(piece=" + getPiece() + ", coordinates=" + coordinates + ")";
+    }
+}
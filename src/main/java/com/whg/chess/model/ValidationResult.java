@@ -1,22 +1,77 @@
 package com.whg.chess.model;
 
+import com.whg.chess.model.enums.Color;
+import com.whg.chess.model.enums.FailureCode;
 import com.whg.chess.model.enums.ValidationStatus;
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-@Data
-@AllArgsConstructor
-@RequiredArgsConstructor
-public class ValidationResult {
+/**
+ * Outcome of a rule. Successful validations share the {@link #PASSED} instance and failures keep only
+ * a {@link FailureCode} with up to three primitive arguments, so the explanation text is built
+ * only when {@link #getExplanation()} is called, not for the many speculative validations nobody reads.
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ValidationResult {
+
+    public static final ValidationResult PASSED = new ValidationResult(ValidationStatus.PASSED, null, 0, 0, 0);
+
     private final ValidationStatus validationStatus;
-    private String explanation;
+    private final FailureCode failureCode;
+
+    @Getter(AccessLevel.NONE)
+    private final int firstArgument;
+    @Getter(AccessLevel.NONE)
+    private final int secondArgument;
+    @Getter(AccessLevel.NONE)
+    private final int thirdArgument;
+
+    public static ValidationResult failed(FailureCode failureCode, int firstArgument) {
+        return new ValidationResult(ValidationStatus.FAILED, failureCode, firstArgument, 0, 0);
+    }
+
+    public static ValidationResult failed(FailureCode failureCode, int firstArgument, int secondArgument) {
+        return new ValidationResult(ValidationStatus.FAILED, failureCode, firstArgument, secondArgument, 0);
+    }
+
+    public static ValidationResult failed(FailureCode failureCode, int firstArgument, int secondArgument, int thirdArgument) {
+        return new ValidationResult(ValidationStatus.FAILED, failureCode, firstArgument, secondArgument, thirdArgument);
+    }
 
-    public Boolean isSuccess() {
+    public boolean isSuccess() {
         return validationStatus == ValidationStatus.PASSED;
     }
 
-    public Boolean isFailed() {
+    public boolean isFailed() {
         return validationStatus == ValidationStatus.FAILED;
     }
+
+    /**
+     * Formats the failure explanation, {@code null} for a successful validation.
+     */
+    public String getExplanation() {
+        if (failureCode == null) {
+            return null;
+        }
+
+        Object[] arguments = new Object[failureCode.getArgumentCount()];
+        int[] values = {firstArgument, secondArgument, thirdArgument};
+
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = failureCode.getArgumentType(i) == FailureCode.ArgumentType.COLOR
+                    ? Color.values()[values[i]]
+                    : Coordinates.unpack(values[i]);
+        }
+
+        return String.format(failureCode.getTemplate(), arguments);
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "ValidationResult(PASSED)" : "ValidationResult(" + failureCode + ": " + getExplanation() + ")";
+    }
 }
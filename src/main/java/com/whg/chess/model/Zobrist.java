@@ -0,0 +1,36 @@
+package com.whg.chess.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random keys for Zobrist hashing: a position key is the XOR of the keys of every piece on its square
+ * plus {@link #BLACK_TO_MOVE} when black is to move. The seed is fixed so keys are stable between runs.
+ */
+final class Zobrist {
+
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+
+    static final long BLACK_TO_MOVE;
+
+    private static final long[][] PIECE_SQUARE_KEYS;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        PIECE_SQUARE_KEYS = new long[Board.PIECE_CODES][Board.MAX_SIZE * Board.MAX_SIZE];
+        for (long[] keys : PIECE_SQUARE_KEYS) {
+            for (int square = 0; square < keys.length; square++) {
+                keys[square] = random.nextLong();
+            }
+        }
+
+        BLACK_TO_MOVE = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    static long pieceKey(int pieceIndex, int square) {
+        return PIECE_SQUARE_KEYS[pieceIndex][square];
+    }
+}
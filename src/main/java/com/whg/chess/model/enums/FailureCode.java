@@ -0,0 +1,58 @@
+package com.whg.chess.model.enums;
+
+/**
+ * Reasons a move is rejected for. Each code knows how to turn the primitive arguments of a failed
+ * {@link com.whg.chess.model.ValidationResult} into the explanation shown to the player.
+ */
+public enum FailureCode {
+    PIECE_NOT_FOUND("Piece was not found at: %s", ArgumentType.COORDINATES),
+    OUTSIDE_BORDERS("The piece is illegal since it goes outside the board borders: %s", ArgumentType.COORDINATES),
+    WRONG_PIECE_COLOR("%s color player is trying to capture a piece with a %s piece.", ArgumentType.COLOR, ArgumentType.COLOR),
+    OWN_PIECE_CAPTURE("%s color player is trying to capture their own piece at %s", ArgumentType.COLOR, ArgumentType.COORDINATES),
+    KING_CAPTURE("%s color player is trying to capture an opponent's king at %s", ArgumentType.COLOR, ArgumentType.COORDINATES),
+    PATH_BLOCKED("%s can't be reached since there is a piece at %s on the path", ArgumentType.COORDINATES, ArgumentType.COORDINATES),
+    BISHOP_NOT_ON_DIAGONAL("Bishop at %s can't reach %s since it's not on bishop's diagonal", ArgumentType.COORDINATES, ArgumentType.COORDINATES),
+    ROOK_NOT_ON_LINE("Rook at %s can't reach %s since it's not on the same horizontal/vertical", ArgumentType.COORDINATES, ArgumentType.COORDINATES),
+    QUEEN_NOT_ON_LINE_OR_DIAGONAL("The queen at %s can't move to %s since the target is neither on the same diagonal nor on the same line",
+            ArgumentType.COORDINATES, ArgumentType.COORDINATES),
+    KNIGHT_NOT_ON_L_PATH("The knight at %s can't move to %s since the target is not reachable via L path", ArgumentType.COORDINATES, ArgumentType.COORDINATES),
+    KING_TOO_FAR("The king at %s can't capture a piece at %s since it's too far away", ArgumentType.COORDINATES, ArgumentType.COORDINATES),
+    KING_MOVES_UNDER_ATTACK("The king at %s can't move to %s since it will be under attack", ArgumentType.COORDINATES, ArgumentType.COORDINATES),
+    PAWN_INVALID_CAPTURE("Pawn located at %s can't capture a piece at %s because it's not located 1 square diagonally to the pawn's direction",
+            ArgumentType.COORDINATES, ArgumentType.COORDINATES),
+    PAWN_NOT_VERTICAL("Pawn at %s can be moved vertically only.", ArgumentType.COORDINATES),
+    PAWN_INVALID_MOVE("%s pawn on %s is not allowed to piece to %s", ArgumentType.COLOR, ArgumentType.COORDINATES, ArgumentType.COORDINATES),
+    KING_IN_CHECK("The %s King is under attack!", ArgumentType.COLOR),
+    WRONG_TURN("%s color player is trying to move while it's %s's turn", ArgumentType.COLOR, ArgumentType.COLOR);
+
+    private final String template;
+    private final ArgumentType[] argumentTypes;
+
+    FailureCode(String template, ArgumentType... argumentTypes) {
+        this.template = template;
+        this.argumentTypes = argumentTypes;
+    }
+
+    public int getArgumentCount() {
+        return argumentTypes.length;
+    }
+
+    public ArgumentType getArgumentType(int index) {
+        return argumentTypes[index];
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public enum ArgumentType {
+        /**
+         * Coordinates packed via {@link com.whg.chess.model.Coordinates#pack()}.
+         */
+        COORDINATES,
+        /**
+         * {@link Color#ordinal()}.
+         */
+        COLOR
+    }
+}
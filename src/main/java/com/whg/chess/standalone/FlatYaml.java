@@ -0,0 +1,72 @@
+package com.whg.chess.standalone;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reader of the subset of YAML used by {@code application.yaml}: nested mappings of scalars, one key per line, with
+ * comments. Keys are flattened with dots like {@code app.name-mappings.pawn}. Parsing a handful of lines this way
+ * takes a fraction of the time it takes to load a full YAML parser, which matters to the startup of the standalone
+ * launcher. Anything else, e.g. lists, multiple documents or multi-line scalars, is rejected.
+ */
+final class FlatYaml {
+
+    private FlatYaml() {
+    }
+
+    static Map<String, String> read(BufferedReader reader) throws IOException {
+        Map<String, String> properties = new LinkedHashMap<>();
+        Deque<Integer> indents = new ArrayDeque<>();
+        Deque<String> prefixes = new ArrayDeque<>();
+        int lineNumber = 0;
+
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            lineNumber++;
+            String content = stripComment(line).stripTrailing();
+            if (content.isBlank()) {
+                continue;
+            }
+
+            int indent = content.length() - content.stripLeading().length();
+            content = content.strip();
+            int colon = content.indexOf(':');
+            if (colon <= 0 || content.startsWith("-") || line.startsWith("\t")) {
+                throw new IllegalArgumentException("Unsupported YAML at line " + lineNumber + ": " + line);
+            }
+
+            while (!indents.isEmpty() && indents.peek() >= indent) {
+                indents.pop();
+                prefixes.pop();
+            }
+
+            String key = (prefixes.isEmpty() ? "" : prefixes.peek() + ".") + content.substring(0, colon).strip();
+            String value = unquote(content.substring(colon + 1).strip());
+            if (value.isEmpty()) {
+                indents.push(indent);
+                prefixes.push(key);
+            } else {
+                properties.put(key, value);
+            }
+        }
+
+        return properties;
+    }
+
+    private static String stripComment(String line) {
+        if (line.stripLeading().startsWith("#")) {
+            return "";
+        }
+
+        int comment = line.indexOf(" #");
+        return comment < 0 ? line : line.substring(0, comment);
+    }
+
+    private static String unquote(String value) {
+        boolean quoted = value.length() >= 2 && (value.startsWith("\"") && value.endsWith("\"") || value.startsWith("'") && value.endsWith("'"));
+        return quoted ? value.substring(1, value.length() - 1) : value;
+    }
+}
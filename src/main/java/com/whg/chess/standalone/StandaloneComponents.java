@@ -0,0 +1,131 @@
+package com.whg.chess.standalone;
+
+import com.whg.chess.config.AppConfig;
+import com.whg.chess.engine.GameEngine;
+import com.whg.chess.engine.checkpoint.CheckpointFile;
+import com.whg.chess.engine.checkpoint.GameCheckpointer;
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.engine.factory.impl.BoardFactoryImpl;
+import com.whg.chess.engine.generator.impl.MoveGeneratorImpl;
+import com.whg.chess.engine.metrics.RuleMetrics;
+import com.whg.chess.engine.replay.GameReplayer;
+import com.whg.chess.engine.rule.PieceTypeRule;
+import com.whg.chess.engine.rule.Rule;
+import com.whg.chess.engine.rule.helper.KingUtils;
+import com.whg.chess.engine.rule.helper.PathUtils;
+import com.whg.chess.engine.rule.impl.general.BordersRule;
+import com.whg.chess.engine.rule.impl.general.PieceCaptureRule;
+import com.whg.chess.engine.rule.impl.general.PieceColorRule;
+import com.whg.chess.engine.rule.impl.general.StartSquareRule;
+import com.whg.chess.engine.rule.impl.piece.BishopRule;
+import com.whg.chess.engine.rule.impl.piece.KingRule;
+import com.whg.chess.engine.rule.impl.piece.KnightRule;
+import com.whg.chess.engine.rule.impl.piece.PawnRule;
+import com.whg.chess.engine.rule.impl.piece.QueenRule;
+import com.whg.chess.engine.rule.impl.piece.RookRule;
+import com.whg.chess.engine.rule.impl.postmove.KingInCheckPostMoveRule;
+import com.whg.chess.input.MoveReaderAdapter;
+import com.whg.chess.input.impl.FileMoveReaderAdapter;
+import com.whg.chess.input.impl.MappedFileMoveReaderAdapter;
+import com.whg.chess.model.enums.PieceName;
+import com.whg.chess.view.BoardRenderer;
+import com.whg.chess.view.cmd.ConsoleBoardRenderer;
+import lombok.Getter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The application wired by hand instead of by component scanning, for entry points where starting
+ * the Spring context would cost more than the work itself. Rules are listed in the order Spring injects them.
+ */
+@Getter
+public class StandaloneComponents {
+
+    private static final String CONFIGURATION = "application.yaml";
+    private static final String PREFIX = "app.";
+    private static final String NAME_MAPPINGS = PREFIX + "name-mappings.";
+
+    private final AppConfig appConfig;
+    private final RuleMetrics ruleMetrics;
+    private final KingUtils kingUtils;
+    private final PathUtils pathUtils;
+    private final List<Rule> generalRules;
+    private final List<PieceTypeRule> pieceRules;
+    private final List<Rule> postMoveRules;
+    private final GameEngine gameEngine;
+    private final BoardFactory boardFactory;
+    private final MoveReaderAdapter moveReaderAdapter;
+    private final BoardRenderer boardRenderer;
+    private final GameReplayer gameReplayer;
+    private final GameCheckpointer gameCheckpointer;
+
+    public StandaloneComponents(AppConfig appConfig) {
+        this.appConfig = appConfig;
+        this.ruleMetrics = new RuleMetrics();
+        this.kingUtils = new KingUtils(ruleMetrics);
+        this.pathUtils = new PathUtils();
+
+        this.generalRules = List.of(new BordersRule(), new PieceCaptureRule(), new PieceColorRule(), new StartSquareRule());
+        this.pieceRules = List.of(new BishopRule(pathUtils), new KingRule(kingUtils), new KnightRule(),
+                new PawnRule(pathUtils), new QueenRule(pathUtils), new RookRule(pathUtils));
+        this.postMoveRules = List.of(new KingInCheckPostMoveRule(kingUtils));
+
+        this.gameEngine = new GameEngine(generalRules, pieceRules, postMoveRules, new MoveGeneratorImpl(kingUtils), kingUtils, ruleMetrics);
+        this.boardFactory = new BoardFactoryImpl(appConfig);
+        this.moveReaderAdapter = "mapped".equals(appConfig.getReader())
+                ? new MappedFileMoveReaderAdapter(appConfig)
+                : new FileMoveReaderAdapter(appConfig);
+        this.boardRenderer = new ConsoleBoardRenderer(appConfig);
+        this.gameReplayer = new GameReplayer(gameEngine, boardFactory, moveReaderAdapter);
+        this.gameCheckpointer = new GameCheckpointer(appConfig, boardFactory, new CheckpointFile());
+    }
+
+    /**
+     * Wires the components configured by the {@code application.yaml} found on the class path,
+     * where {@code -Dapp.*} system properties such as {@code -Dapp.board-size} or {@code -Dapp.render-mode} take precedence.
+     */
+    public static StandaloneComponents fromApplicationYaml() {
+        return new StandaloneComponents(loadAppConfig());
+    }
+
+    static AppConfig loadAppConfig() {
+        Map<String, String> app;
+        try (InputStream input = StandaloneComponents.class.getClassLoader().getResourceAsStream(CONFIGURATION)) {
+            if (input == null) {
+                throw new IllegalStateException(CONFIGURATION + " was not found on the class path");
+            }
+            app = FlatYaml.read(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + CONFIGURATION, e);
+        }
+
+        AppConfig appConfig = new AppConfig();
+        appConfig.setBoardSize(Integer.valueOf(getProperty(app, "board-size")));
+        appConfig.setReader(getProperty(app, "reader"));
+        appConfig.setCheckpointInterval(Integer.valueOf(getProperty(app, "checkpoint-interval")));
+        appConfig.setRenderMode(getProperty(app, "render-mode"));
+        appConfig.setRenderInterval(Integer.valueOf(getProperty(app, "render-interval")));
+        appConfig.setRenderBuffered(Boolean.valueOf(getProperty(app, "render-buffered")));
+
+        app.forEach((key, mapping) -> {
+            if (key.startsWith(NAME_MAPPINGS)) {
+                String name = key.substring(NAME_MAPPINGS.length());
+                appConfig.getNameMappings().put(PieceName.valueOf(name.toUpperCase()), mapping);
+            }
+        });
+
+        return appConfig;
+    }
+
+    private static String getProperty(Map<String, String> app, String name) {
+        return System.getProperty(PREFIX + name, app.get(PREFIX + name));
+    }
+
+}
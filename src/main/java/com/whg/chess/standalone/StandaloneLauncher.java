@@ -0,0 +1,24 @@
+package com.whg.chess.standalone;
+
+import com.whg.chess.view.cmd.ConsoleRunner;
+
+/**
+ * Replays a file of moves like the default console mode without starting Spring, see {@link StandaloneComponents}.
+ * Built as the {@code cli} jar by the {@code cli-cds} profile together with a class data sharing archive:
+ * <pre>
+ * java -XX:SharedArchiveFile=target/chess-cli.jsa -jar target/chess-0.0.1-SNAPSHOT-cli.jar moves.txt
+ * </pre>
+ */
+public final class StandaloneLauncher {
+
+    private StandaloneLauncher() {
+    }
+
+    public static void main(String[] args) {
+        StandaloneComponents components = StandaloneComponents.fromApplicationYaml();
+
+        new ConsoleRunner(components.getAppConfig(), components.getKingUtils(), components.getGameEngine(), components.getBoardRenderer(),
+                components.getMoveReaderAdapter(), components.getRuleMetrics(), components.getGameCheckpointer()).run(args);
+    }
+
+}
@@ -2,6 +2,15 @@ package com.whg.chess.view;
 
 import com.whg.chess.model.Board;
 
+import java.io.PrintStream;
+
 public interface BoardRenderer {
-    void renderBoard(Board board);
+    default void renderBoard(Board board) {
+        renderBoard(board, System.out);
+    }
+
+    /**
+     * Renders the board to the given stream, e.g. a buffered one flushed once at the end of a replay.
+     */
+    void renderBoard(Board board, PrintStream out);
 }
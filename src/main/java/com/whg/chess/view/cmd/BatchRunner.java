@@ -0,0 +1,107 @@
+package com.whg.chess.view.cmd;
+
+import com.whg.chess.engine.checkpoint.CheckpointFile;
+import com.whg.chess.engine.replay.GameReplayer;
+import com.whg.chess.engine.replay.GameSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Validates every game file found in the directories and files given as parameters. Games are replayed in parallel
+ * on a pool sized to the available cores, an illegal move only ends its own game.
+ */
+@Component
+@Profile("!test")
+@ConditionalOnProperty(prefix = "app", name = "mode", havingValue = "batch")
+@RequiredArgsConstructor
+public class BatchRunner implements CommandLineRunner {
+
+    private final GameReplayer gameReplayer;
+
+    @Override
+    public void run(String... args) {
+        List<Path> games = findGames(args);
+        if (games.isEmpty()) {
+            System.out.println("Make sure directories or files with games are provided as parameters!");
+            System.exit(1);
+        }
+
+        long start = System.nanoTime();
+        List<GameSummary> summaries = replayAll(games);
+        long elapsedNanos = System.nanoTime() - start;
+
+        summaries.forEach(System.out::println);
+        printTotals(summaries, elapsedNanos);
+    }
+
+    private List<GameSummary> replayAll(List<Path> games) {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+
+        try {
+            List<CompletableFuture<GameSummary>> summaries = games.stream()
+                    .map(game -> CompletableFuture.supplyAsync(() -> gameReplayer.replay(game.toString()), executor))
+                    .collect(Collectors.toList());
+
+            return summaries.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void printTotals(List<GameSummary> summaries, long elapsedNanos) {
+        long moves = summaries.stream().mapToLong(GameSummary::getMovesApplied).sum();
+        long invalidGames = summaries.stream().filter(summary -> !summary.isValid()).count();
+        double seconds = Math.max(elapsedNanos, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        System.out.println();
+        System.out.printf("%d games (%d invalid), %d moves applied in %d ms: %.0f games/s, %.0f moves/s%n",
+                summaries.size(), invalidGames, moves, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                summaries.size() / seconds, moves / seconds);
+    }
+
+    /**
+     * Lists the given files and the files found in the given directories, skipping the checkpoint sidecars
+     * console replays leave next to the games.
+     */
+    List<Path> findGames(String... args) {
+        return Arrays.stream(args)
+                .filter(arg -> !arg.startsWith("--"))
+                .map(Path::of)
+                .flatMap(this::listFiles)
+                .collect(Collectors.toList());
+    }
+
+    private Stream<Path> listFiles(Path path) {
+        if (!Files.isDirectory(path)) {
+            return Stream.of(path);
+        }
+
+        try (Stream<Path> files = Files.walk(path)) {
+            List<Path> regularFiles = new ArrayList<>();
+            files.filter(Files::isRegularFile).filter(file -> !CheckpointFile.isSidecar(file)).sorted().forEach(regularFiles::add);
+            return regularFiles.stream();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list games in " + path, e);
+        }
+    }
+
+}
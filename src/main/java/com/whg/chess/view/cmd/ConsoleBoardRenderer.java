@@ -4,67 +4,104 @@ import com.whg.chess.config.AppConfig;
 import com.whg.chess.model.Board;
 import com.whg.chess.model.Coordinates;
 import com.whg.chess.model.Piece;
-import com.whg.chess.model.Square;
 import com.whg.chess.model.enums.Color;
+import com.whg.chess.model.enums.PieceName;
 import com.whg.chess.view.BoardRenderer;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.io.PrintStream;
 
-@Slf4j
+/**
+ * Renders boards as text, rank 8 at the top. The text of an empty board is laid out once per board size and every
+ * rendering copies it and writes the glyph of each piece at the offset of its square, so no strings are built per square.
+ */
 @Component
-@RequiredArgsConstructor
 public class ConsoleBoardRenderer implements BoardRenderer {
 
-    private final AppConfig appConfig;
+    private static final char EMPTY_SQUARE = '.';
+
+    /**
+     * Label of a rank like {@code "8| "} before its first square.
+     */
+    private static final int RANK_LABEL_LENGTH = 3;
+
+    /**
+     * Glyphs indexed by {@code color.ordinal() * PIECE_TYPES + name.ordinal()}.
+     */
+    private final char[] glyphs;
+
+    /**
+     * Text of an empty board indexed by board size.
+     */
+    private final char[][] emptyBoards = new char[Board.MAX_SIZE + 1][];
+
+    public ConsoleBoardRenderer(AppConfig appConfig) {
+        this.glyphs = buildGlyphs(appConfig);
+
+        for (int size = 1; size <= Board.MAX_SIZE; size++) {
+            emptyBoards[size] = layOutEmptyBoard(size);
+        }
+    }
 
     @Override
-    public void renderBoard(Board board) {
-        StringBuilder builder = new StringBuilder();
-
-        Arrays.stream(board.getSquares())
-                .sorted(reverseOrder())
-                .forEach(row -> {
-                    String rowAsStr = Arrays.stream(row)
-                            .map(this::renderSquare)
-                            .collect(Collectors.joining(" "));
-
-                    builder.append(row[0].getCoordinates().getRow() + 1).append("| ");
-                    builder.append(rowAsStr);
-                    builder.append("\n");
-                });
-
-        builder.append("   ").append(Coordinates.VALID_COLUMNS.stream().map(letter -> "-").collect(Collectors.joining(" ")));
-        builder.append("\n");
-        builder.append("   ").append(String.join(" ", Coordinates.VALID_COLUMNS));
-        builder.append("\n");
-
-        System.out.println(builder.toString());
+    public void renderBoard(Board board, PrintStream out) {
+        int size = board.getSize();
+        char[] text = emptyBoards[size].clone();
+
+        for (long occupied = board.getOccupied(); occupied != 0; occupied &= occupied - 1) {
+            int square = Long.numberOfTrailingZeros(occupied);
+            Piece piece = board.getPiece(square);
+
+            text[offsetOf(size, Board.rowOf(square), Board.columnOf(square))] = glyphs[glyphIndex(piece.getName(), piece.getColor())];
+        }
+
+        out.println(text);
     }
 
-    private Comparator<Square[]> reverseOrder() {
-        return (row1, row2) -> -1;
+    /**
+     * Offset of a square in the text: every rank is a line of its label and one glyph plus separator per column.
+     */
+    private static int offsetOf(int size, int row, int column) {
+        int lineLength = RANK_LABEL_LENGTH + 2 * size;
+        return (size - 1 - row) * lineLength + RANK_LABEL_LENGTH + 2 * column;
     }
 
-    private String renderSquare(Square square) {
-        return Optional.ofNullable(square)
-                .map(Square::getPiece)
-                .map(this::getPieceName)
-                .orElse(".");
+    private static char[] layOutEmptyBoard(int size) {
+        StringBuilder text = new StringBuilder();
+
+        for (int row = size - 1; row >= 0; row--) {
+            text.append(row + 1).append("| ");
+            for (int column = 0; column < size; column++) {
+                text.append(EMPTY_SQUARE).append(column < size - 1 ? ' ' : '\n');
+            }
+        }
+
+        text.append("   ");
+        for (int column = 0; column < size; column++) {
+            text.append('-').append(column < size - 1 ? ' ' : '\n');
+        }
+        text.append("   ");
+        for (int column = 0; column < size; column++) {
+            text.append(Coordinates.columnName(column)).append(column < size - 1 ? ' ' : '\n');
+        }
+
+        return text.toString().toCharArray();
     }
 
-    private String getPieceName(Piece piece) {
-        String name = appConfig.getNameMappings().get(piece.getName());
+    private static char[] buildGlyphs(AppConfig appConfig) {
+        char[] glyphs = new char[PieceName.values().length * Color.values().length];
 
-        if (piece.getColor() == Color.WHITE) {
-            return name.toUpperCase();
-        } else {
-            return name.toLowerCase();
+        for (Color color : Color.values()) {
+            for (PieceName name : PieceName.values()) {
+                char glyph = appConfig.getNameMappings().get(name).charAt(0);
+                glyphs[glyphIndex(name, color)] = color == Color.WHITE ? Character.toUpperCase(glyph) : Character.toLowerCase(glyph);
+            }
         }
+
+        return glyphs;
+    }
+
+    private static int glyphIndex(PieceName name, Color color) {
+        return color.ordinal() * PieceName.values().length + name.ordinal();
     }
 }
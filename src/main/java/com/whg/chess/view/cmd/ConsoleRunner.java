@@ -1,7 +1,10 @@
 package com.whg.chess.view.cmd;
 
+import com.whg.chess.config.AppConfig;
 import com.whg.chess.engine.GameEngine;
-import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.engine.checkpoint.CheckpointedGame;
+import com.whg.chess.engine.checkpoint.GameCheckpointer;
+import com.whg.chess.engine.metrics.RuleMetrics;
 import com.whg.chess.engine.rule.exceptions.ChessRuleException;
 import com.whg.chess.engine.rule.helper.KingUtils;
 import com.whg.chess.input.MoveReaderAdapter;
@@ -13,67 +16,170 @@ import com.whg.chess.view.BoardRenderer;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 @Component
 @Profile("!test")
+@ConditionalOnProperty(prefix = "app", name = "mode", havingValue = "console", matchIfMissing = true)
 @RequiredArgsConstructor
 public class ConsoleRunner implements CommandLineRunner {
 
+    /**
+     * Prints the {@link RuleMetrics} summary when the replay ends, legal or not.
+     */
+    public static final String STATS_OPTION = "--stats";
+
+    private static final String OPTION_PREFIX = "--";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int NOTHING_RENDERED = -1;
+
+    private final AppConfig appConfig;
     private final KingUtils kingUtils;
     private final GameEngine gameEngine;
-    private final BoardFactory boardFactory;
     private final BoardRenderer boardRenderer;
     private final MoveReaderAdapter moveReaderAdapter;
+    private final RuleMetrics ruleMetrics;
+    private final GameCheckpointer gameCheckpointer;
+
+    private boolean printStats;
+    private CheckpointedGame game;
+    private PrintStream out;
+    private RenderMode renderMode;
+    private int renderedMoves = NOTHING_RENDERED;
 
     @Override
     public void run(String... args) {
+        PrintStream out = appConfig.getRenderBuffered()
+                ? new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), BUFFER_SIZE), false)
+                : System.out;
 
-        if (args.length == 0 || StringUtils.isBlank(args[0])) {
-            System.out.println("Make sure the path is provided as a parameter!");
-            System.exit(1);
+        try {
+            replay(out, args);
+        } catch (ReplayStoppedException stopped) {
+            System.exit(stopped.getStatus());
         }
+    }
 
-        List<Move> moves = readMoves(args);
+    /**
+     * Replays the move file named by the arguments, printing to the given stream, which is flushed when the replay
+     * ends or stops.
+     *
+     * @throws ReplayStoppedException if the replay stops early, carrying the exit status of the process
+     */
+    void replay(PrintStream out, String... args) {
+        this.out = out;
+        this.renderedMoves = NOTHING_RENDERED;
+
+        try {
+            renderMode = RenderMode.of(appConfig.getRenderMode(), appConfig.getRenderInterval());
+        } catch (IllegalArgumentException e) {
+            out.println(e.getMessage());
+            stop(1);
+        }
+
+        String location = findLocation(args);
+        if (StringUtils.isBlank(location)) {
+            out.println("Make sure the path is provided as a parameter!");
+            stop(1);
+        }
 
-        Board board = boardFactory.getStartingBoard();
+        printStats = Arrays.asList(args).contains(STATS_OPTION);
 
-        boardRenderer.renderBoard(board);
+        try (Stream<Move> moves = streamMoves(location)) {
+            game = resume(location, moves.iterator());
+            Board board = game.getBoard();
 
-        performMoves(moves, board);
+            if (game.getRestoredMoves() > 0) {
+                out.println("Resuming from the checkpoint after move " + game.getRestoredMoves());
+            }
+            renderIfDue(board);
+
+            board = performMoves(game.getRemainingMoves(), board);
+            finish(board);
+        }
+    }
+
+    /**
+     * The path of the move file is the first argument that is not an option, so options may come before or after it.
+     */
+    private static String findLocation(String[] args) {
+        return Arrays.stream(args)
+                .filter(arg -> !arg.startsWith(OPTION_PREFIX))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Stream<Move> streamMoves(String location) {
+        try {
+            return moveReaderAdapter.streamMoves(location);
+        } catch (ReaderException exception) {
+            out.println("Could not find file with moves via path: " + location);
+            stop(1);
+            return null;
+        }
     }
 
-    private List<Move> readMoves(String[] args) {
+    /**
+     * Restores the latest checkpoint whose moves match the file, reading the moves up to it.
+     */
+    private CheckpointedGame resume(String location, Iterator<Move> moves) {
         try {
-            return moveReaderAdapter.readMoves(args[0]);
+            return gameCheckpointer.resume(location, moves);
         } catch (ReaderException exception) {
-            System.out.println("Could not find file with moves via path: " + args[0]);
-            System.exit(1);
+            out.println(exception.getMessage());
+            stop(1);
             return null;
         }
     }
 
-    private void performMoves(List<Move> moves, Board board) {
-        for (Move move : moves) {
+    /**
+     * Validates every move as soon as it is read, so an illegal move stops reading the rest of the file.
+     */
+    private Board performMoves(Iterator<Move> moves, Board board) {
+        while (hasNextMove(moves, board)) {
+            Move move = moves.next();
             board = performMove(board, move);
+            game.moveApplied(move, board);
 
-            System.out.println(move);
-            boardRenderer.renderBoard(board);
+            out.println(move);
+            renderIfDue(board);
 
             warnIfKingInCheck(board, move);
         }
+        return board;
+    }
+
+    private boolean hasNextMove(Iterator<Move> moves, Board board) {
+        try {
+            return moves.hasNext();
+        } catch (ReaderException exception) {
+            out.println(exception.getMessage());
+            finish(board);
+            stop(1);
+            return false;
+        }
     }
 
     private Board performMove(Board board, Move move) {
         try {
             board = gameEngine.performMove(board, move);
         } catch (ChessRuleException e) {
-            System.out.println("Illegal move: " + move);
-            System.out.println(e.getMessage());
-            System.exit(0);
+            out.println("Illegal move: " + move);
+            out.println(e.getMessage());
+            finish(board);
+            stop(0);
         }
         return board;
     }
@@ -81,10 +187,52 @@ public class ConsoleRunner implements CommandLineRunner {
     private void warnIfKingInCheck(Board board, Move move) {
         Color opponentColor = move.getColor().getOpposite();
         if (kingUtils.isKingUnderAttack(board, opponentColor)) {
-            System.out.println();
-            System.out.println("Warning: " + opponentColor + " King is in check!");
-            System.out.println();
+            out.println();
+            out.println("Warning: " + opponentColor + " King is in check!");
+            out.println();
         }
     }
 
+    private void renderIfDue(Board board) {
+        if (renderMode.rendersAfter(game.getMovesApplied(), appConfig.getRenderInterval())) {
+            render(board);
+        }
+    }
+
+    private void render(Board board) {
+        boardRenderer.renderBoard(board, out);
+        renderedMoves = game.getMovesApplied();
+    }
+
+    /**
+     * Prints the last legal position unless the render mode already did, stores the checkpoints of the legal moves
+     * and prints the stats, whether the replay ended normally or not. Checkpoints only save work, so failing to store
+     * them is reported as a warning.
+     */
+    private void finish(Board board) {
+        if (renderedMoves != game.getMovesApplied()) {
+            render(board);
+        }
+
+        try {
+            game.save();
+        } catch (UncheckedIOException e) {
+            out.println("Warning: " + e.getMessage());
+        }
+
+        if (printStats) {
+            out.println();
+            out.print(ruleMetrics.getSummary());
+        }
+        out.flush();
+    }
+
+    /**
+     * Flushes the buffered output, which {@link System#exit(int)} would otherwise discard, and stops the replay.
+     */
+    private void stop(int status) {
+        out.flush();
+        throw new ReplayStoppedException(status);
+    }
+
 }
@@ -0,0 +1,70 @@
+package com.whg.chess.view.cmd;
+
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.engine.perft.Perft;
+import com.whg.chess.engine.perft.PerftResult;
+import com.whg.chess.model.Board;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Runs perft from the starting position for every depth up to the one given as a parameter
+ * and compares the node counts with the reference ones.
+ */
+@Component
+@Profile("!test")
+@ConditionalOnProperty(prefix = "app", name = "mode", havingValue = "perft")
+@RequiredArgsConstructor
+public class PerftRunner implements CommandLineRunner {
+
+    private static final int DEFAULT_DEPTH = 5;
+
+    private final Perft perft;
+    private final BoardFactory boardFactory;
+
+    @Override
+    public void run(String... args) {
+        int maxDepth = readDepth(args);
+        boolean mismatch = false;
+
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            Board board = boardFactory.getStartingBoard();
+            PerftResult result = perft.run(board, depth);
+
+            String expected = "";
+            if (depth < Perft.STARTING_POSITION_NODES.length) {
+                long expectedNodes = Perft.STARTING_POSITION_NODES[depth];
+                expected = expectedNodes == result.getNodes() ? " (ok)" : " (expected " + expectedNodes + ")";
+                mismatch |= expectedNodes != result.getNodes();
+            }
+
+            System.out.printf("depth %d: %d nodes%s in %d ms, %d nodes/s%n", depth, result.getNodes(), expected,
+                    result.getNanos() / 1_000_000, result.getNodesPerSecond());
+        }
+
+        if (mismatch) {
+            System.exit(1);
+        }
+    }
+
+    private int readDepth(String[] args) {
+        String depth = Arrays.stream(args)
+                .filter(arg -> !arg.startsWith("--"))
+                .findFirst()
+                .orElse(String.valueOf(DEFAULT_DEPTH));
+
+        try {
+            return Integer.parseInt(depth);
+        } catch (NumberFormatException e) {
+            System.out.println("Depth must be a number: " + depth);
+            System.exit(1);
+            return 0;
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.whg.chess.view.cmd;
+
+import java.util.Arrays;
+
+/**
+ * Which boards a console replay prints. Whatever the mode, the last position of the replay is printed.
+ */
+public enum RenderMode {
+    EVERY_MOVE("every-move"),
+    EVERY_NTH("every-nth"),
+    FINAL("final");
+
+    private final String name;
+
+    RenderMode(String name) {
+        this.name = name;
+    }
+
+    public static RenderMode of(String name) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.name.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown render mode " + name + ", expected one of "
+                        + Arrays.toString(Arrays.stream(values()).map(mode -> mode.name).toArray())));
+    }
+
+    /**
+     * Resolves the mode together with the interval later passed to {@link #rendersAfter(int, int)}.
+     *
+     * @throws IllegalArgumentException if the mode is unknown or the interval is not positive
+     */
+    public static RenderMode of(String name, int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Render interval must be at least 1 but was " + interval);
+        }
+
+        return of(name);
+    }
+
+    /**
+     * Whether the board is printed after the given number of moves, the starting position being 0 moves.
+     *
+     * @param interval number of moves between boards in {@link #EVERY_NTH} mode, at least 1
+     */
+    public boolean rendersAfter(int movesApplied, int interval) {
+        switch (this) {
+            case EVERY_MOVE:
+                return true;
+            case EVERY_NTH:
+                return movesApplied % interval == 0;
+            default:
+                return false;
+        }
+    }
+}
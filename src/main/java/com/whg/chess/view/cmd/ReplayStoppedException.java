@@ -0,0 +1,17 @@
+package com.whg.chess.view.cmd;
+
+import lombok.Getter;
+
+/**
+ * Stops a console replay early, e.g. at an illegal move, once its output has been flushed.
+ * {@link ConsoleRunner} turns it into the exit status of the process.
+ */
+@Getter
+class ReplayStoppedException extends RuntimeException {
+    private final int status;
+
+    ReplayStoppedException(int status) {
+        super("Replay stopped with status " + status);
+        this.status = status;
+    }
+}
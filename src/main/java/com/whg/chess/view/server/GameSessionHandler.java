@@ -0,0 +1,115 @@
+package com.whg.chess.view.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.whg.chess.config.AppConfig;
+import com.whg.chess.engine.session.GameSession;
+import com.whg.chess.engine.session.GameSessionManager;
+import com.whg.chess.input.MoveNotationParser;
+import com.whg.chess.input.exception.ReaderException;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.MoveOutcome;
+import com.whg.chess.model.enums.Color;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Live games over HTTP:
+ * <ul>
+ *     <li>{@code POST /games/sessions} opens a game and answers with its id,</li>
+ *     <li>{@code POST /games/sessions/{id}} submits one move, e.g. {@code e2e4}, for the color given by the {@code color}
+ *     query parameter or, without it, for the side to move, and answers with the outcome line,</li>
+ *     <li>{@code DELETE /games/sessions/{id}} closes the game.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class GameSessionHandler {
+
+    public static final String SESSIONS_PATH = "/games/sessions";
+
+    private static final String COLOR_PARAMETER = "color=";
+
+    private final AppConfig appConfig;
+    private final GameSessionManager gameSessionManager;
+
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            String id = getSessionId(exchange);
+            String method = exchange.getRequestMethod();
+
+            if (id.isEmpty() && "POST".equals(method)) {
+                HttpResponses.respond(exchange, HttpResponses.CREATED, gameSessionManager.openSession().getId() + "\n");
+            } else if (!id.isEmpty() && "POST".equals(method)) {
+                submitMove(exchange, id);
+            } else if (!id.isEmpty() && "DELETE".equals(method)) {
+                boolean closed = gameSessionManager.closeSession(id);
+                HttpResponses.respond(exchange, closed ? HttpResponses.NO_CONTENT : HttpResponses.NOT_FOUND, closed ? "" : noSession(id));
+            } else {
+                HttpResponses.respond(exchange, HttpResponses.METHOD_NOT_ALLOWED, "Unsupported request\n");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void submitMove(HttpExchange exchange, String id) throws IOException {
+        Optional<GameSession> session = gameSessionManager.findSession(id);
+        if (session.isEmpty()) {
+            HttpResponses.respond(exchange, HttpResponses.NOT_FOUND, noSession(id));
+            return;
+        }
+
+        Move move;
+        try {
+            move = parseMove(exchange, session.get());
+        } catch (ReaderException | IllegalArgumentException e) {
+            HttpResponses.respond(exchange, HttpResponses.BAD_REQUEST, e.getMessage() + "\n");
+            return;
+        }
+
+        MoveOutcome outcome = session.get().submitMove(move).join();
+
+        StringBuilder response = new StringBuilder();
+        HttpResponses.appendOutcome(response, move, outcome);
+        HttpResponses.respond(exchange, HttpResponses.OK, response.toString());
+    }
+
+    private Move parseMove(HttpExchange exchange, GameSession session) throws IOException {
+        MoveNotationParser parser = new MoveNotationParser(appConfig.getBoardSize());
+        boolean parsed = false;
+
+        for (byte value : exchange.getRequestBody().readAllBytes()) {
+            parsed |= parser.feed(value);
+        }
+        parsed |= parser.finish();
+
+        if (!parsed) {
+            throw new ReaderException("The move could not be read.");
+        }
+
+        return MoveNotationParser.toMove(parser.getMove(), getColor(exchange, session));
+    }
+
+    private Color getColor(HttpExchange exchange, GameSession session) {
+        String query = exchange.getRequestURI().getQuery();
+        if (query == null || !query.startsWith(COLOR_PARAMETER)) {
+            return session.getSideToMove();
+        }
+
+        return Color.valueOf(query.substring(COLOR_PARAMETER.length()).toUpperCase());
+    }
+
+    private String getSessionId(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath().substring(SESSIONS_PATH.length());
+
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    private String noSession(String id) {
+        return "There is no open game with id " + id + "\n";
+    }
+
+}
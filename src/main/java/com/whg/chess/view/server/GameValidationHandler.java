@@ -0,0 +1,90 @@
+package com.whg.chess.view.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.whg.chess.config.AppConfig;
+import com.whg.chess.engine.replay.GameReplayer;
+import com.whg.chess.engine.replay.GameSummary;
+import com.whg.chess.input.MoveNotationParser;
+import com.whg.chess.input.exception.ReaderException;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.MoveOutcome;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Validates a game posted as move lines in the same notation as the move files and answers with one tab separated
+ * line per validated move: number, color, move, {@code LEGAL}, {@code CHECK} or {@code ILLEGAL} with the failure code
+ * and explanation. The last line sums the game up as {@code VALID} or {@code INVALID} with the number of moves applied.
+ * <p>
+ * Registered as a {@link com.sun.net.httpserver.HttpHandler} via a method reference rather than implementing it,
+ * which keeps JDK types out of the component scan.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameValidationHandler {
+
+    private final AppConfig appConfig;
+    private final GameReplayer gameReplayer;
+
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                HttpResponses.respond(exchange, HttpResponses.METHOD_NOT_ALLOWED, "Moves have to be posted\n");
+                return;
+            }
+
+            List<Move> moves;
+            try {
+                moves = parseMoves(exchange.getRequestBody().readAllBytes());
+            } catch (ReaderException e) {
+                HttpResponses.respond(exchange, HttpResponses.BAD_REQUEST, e.getMessage() + "\n");
+                return;
+            }
+
+            OutcomeWriter writer = new OutcomeWriter();
+            GameSummary summary = gameReplayer.replay(exchange.getRemoteAddress().toString(), moves.iterator(), writer);
+
+            HttpResponses.respond(exchange, HttpResponses.OK, writer.finish(summary));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private List<Move> parseMoves(byte[] body) {
+        MoveNotationParser parser = new MoveNotationParser(appConfig.getBoardSize());
+        List<Move> moves = new ArrayList<>();
+
+        for (byte value : body) {
+            if (parser.feed(value)) {
+                moves.add(MoveNotationParser.toMove(parser.getMove(), MoveNotationParser.colorOf(moves.size())));
+            }
+        }
+        if (parser.finish()) {
+            moves.add(MoveNotationParser.toMove(parser.getMove(), MoveNotationParser.colorOf(moves.size())));
+        }
+
+        return moves;
+    }
+
+    private static class OutcomeWriter implements BiConsumer<Move, MoveOutcome> {
+
+        private final StringBuilder response = new StringBuilder();
+        private int moveNumber;
+
+        @Override
+        public void accept(Move move, MoveOutcome outcome) {
+            response.append(++moveNumber).append('\t');
+            HttpResponses.appendOutcome(response, move, outcome);
+        }
+
+        String finish(GameSummary summary) {
+            return response.append(summary.isValid() ? "VALID" : "INVALID").append('\t').append(summary.getMovesApplied()).append('\n').toString();
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.whg.chess.view.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.MoveOutcome;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Plain text responses shared by the handlers.
+ */
+final class HttpResponses {
+
+    static final int OK = 200;
+    static final int CREATED = 201;
+    static final int NO_CONTENT = 204;
+    static final int BAD_REQUEST = 400;
+    static final int NOT_FOUND = 404;
+    static final int METHOD_NOT_ALLOWED = 405;
+
+    private HttpResponses() {
+    }
+
+    static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Appends a tab separated line: color, move, {@code LEGAL}, {@code CHECK} or {@code ILLEGAL} with the failure code and explanation.
+     */
+    static void appendOutcome(StringBuilder response, Move move, MoveOutcome outcome) {
+        response.append(move.getColor()).append('\t')
+                .append(move.getFrom()).append(move.getTo()).append('\t');
+
+        if (outcome.isLegal()) {
+            response.append(outcome.isOpponentInCheck() ? "CHECK" : "LEGAL");
+        } else {
+            response.append("ILLEGAL\t").append(outcome.getFailureCode()).append('\t').append(outcome.getExplanation());
+        }
+
+        response.append('\n');
+    }
+}
@@ -0,0 +1,64 @@
+package com.whg.chess.view.server;
+
+import com.sun.net.httpserver.HttpServer;
+import com.whg.chess.config.AppConfig;
+import com.whg.chess.engine.metrics.RuleMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps the engine warm in a long-running process serving {@link GameValidationHandler} on the loopback interface,
+ * so validating a game does not pay for starting a JVM and the application context.
+ * The {@link RuleMetrics} of the engine are published over JMX while the server runs.
+ */
+@Component
+@Profile("!test")
+@ConditionalOnProperty(prefix = "app", name = "mode", havingValue = "server")
+@RequiredArgsConstructor
+public class ServerRunner implements CommandLineRunner, DisposableBean {
+
+    public static final String VALIDATION_PATH = "/games/validate";
+
+    private final AppConfig appConfig;
+    private final GameValidationHandler gameValidationHandler;
+    private final GameSessionHandler gameSessionHandler;
+    private final RuleMetrics ruleMetrics;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @Override
+    public void run(String... args) throws IOException {
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), appConfig.getServerPort()), 0);
+        server.createContext(VALIDATION_PATH, gameValidationHandler::handle);
+        server.createContext(GameSessionHandler.SESSIONS_PATH, gameSessionHandler::handle);
+        server.setExecutor(executor);
+        server.start();
+        ruleMetrics.registerMBeans();
+
+        System.out.println("Validating games posted to http://localhost:" + server.getAddress().getPort() + VALIDATION_PATH);
+        System.out.println("Serving live games at http://localhost:" + server.getAddress().getPort() + GameSessionHandler.SESSIONS_PATH);
+    }
+
+    @Override
+    public void destroy() {
+        if (server != null) {
+            ruleMetrics.unregisterMBeans();
+            server.stop(0);
+            executor.shutdown();
+        }
+    }
+
+}
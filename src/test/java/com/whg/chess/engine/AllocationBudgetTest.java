@@ -0,0 +1,152 @@
+package com.whg.chess.engine;
+
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.engine.replay.GameReplayer;
+import com.whg.chess.engine.rule.helper.KingUtils;
+import com.whg.chess.input.MoveReaderAdapter;
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Coordinates;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.enums.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards the garbage produced per operation on the move validation hot path. Operations are warmed up until the JIT
+ * compiled them, then the bytes allocated by the test thread are divided by the number of operations. The best of several
+ * rounds counts, since allocation inherent to the code shows up in every round while a recompilation shows up in one.
+ * When a budget fails, compare with the {@code -prof gc} numbers of the JMH benchmarks before raising it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Allocation budgets of the move pipeline")
+class AllocationBudgetTest {
+
+    private static final String MOVES = "src/main/resources/moves/";
+    private static final List<String> GAMES = List.of("sample-moves.txt", "sample-moves-invalid.txt", "checkmate.txt", "move-when-check.txt");
+
+    /**
+     * Bytes per operation. A move copies the board and creates its outcome, check detection and square lookups allocate nothing.
+     */
+    private static final long PERFORM_MOVE_BUDGET = 640;
+    private static final long KING_UNDER_ATTACK_BUDGET = 0;
+    private static final long SQUARE_NOTATION_BUDGET = 0;
+
+    private static final int WARMUP_OPERATIONS = 200_000;
+    private static final int MEASURED_OPERATIONS = 100_000;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @Autowired
+    private GameEngine engine;
+
+    @Autowired
+    private KingUtils kingUtils;
+
+    @Autowired
+    private GameReplayer gameReplayer;
+
+    @Autowired
+    private MoveReaderAdapter moveReaderAdapter;
+
+    @Autowired
+    private BoardFactory boardFactory;
+
+    /**
+     * Legal moves of the bundled games and the positions they are played on, at the same index.
+     */
+    private Board[] positions;
+    private Move[] moves;
+
+    @BeforeEach
+    void replayGames() {
+        List<Board> boards = new ArrayList<>();
+        List<Move> legalMoves = new ArrayList<>();
+
+        for (String game : GAMES) {
+            Board[] current = {boardFactory.getStartingBoard()};
+            gameReplayer.replay(game, moveReaderAdapter.readMoves(MOVES + game).iterator(), (move, outcome) -> {
+                if (outcome.isLegal()) {
+                    boards.add(current[0]);
+                    legalMoves.add(move);
+                    current[0] = outcome.getBoard();
+                }
+            });
+        }
+
+        positions = boards.toArray(new Board[0]);
+        moves = legalMoves.toArray(new Move[0]);
+    }
+
+    @Test
+    @DisplayName("Performing a move stays within its budget")
+    void testPerformMove() {
+        long bytes = allocatedBytesPerOperation(index -> {
+            int i = index % moves.length;
+            engine.performMove(positions[i], moves[i]);
+        });
+
+        assertWithinBudget("performMove", bytes, PERFORM_MOVE_BUDGET);
+    }
+
+    @Test
+    @DisplayName("Check detection allocates nothing")
+    void testKingUnderAttack() {
+        long bytes = allocatedBytesPerOperation(index -> {
+            Board board = positions[index % positions.length];
+            board.setCheckedKings(Board.CHECKS_NOT_COMPUTED);
+            kingUtils.isKingUnderAttack(board, index % 2 == 0 ? Color.WHITE : Color.BLACK);
+        });
+
+        assertWithinBudget("isKingUnderAttack", bytes, KING_UNDER_ATTACK_BUDGET);
+    }
+
+    @Test
+    @DisplayName("Parsing and formatting square notation allocates nothing")
+    void testSquareNotation() {
+        String[] notations = new String[moves.length];
+        for (int i = 0; i < moves.length; i++) {
+            notations[i] = moves[i].getTo().toString().toLowerCase();
+        }
+
+        long bytes = allocatedBytesPerOperation(index -> Coordinates.of(notations[index % notations.length]).toString());
+
+        assertWithinBudget("Coordinates.of", bytes, SQUARE_NOTATION_BUDGET);
+    }
+
+    private static long allocatedBytesPerOperation(IntConsumer operation) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        for (int i = 0; i < WARMUP_OPERATIONS; i++) {
+            operation.accept(i);
+        }
+
+        long fewestBytes = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < MEASURED_OPERATIONS; i++) {
+                operation.accept(i);
+            }
+            long after = threads.getCurrentThreadAllocatedBytes();
+
+            fewestBytes = Math.min(fewestBytes, (after - before) / MEASURED_OPERATIONS);
+        }
+
+        return fewestBytes;
+    }
+
+    private static void assertWithinBudget(String operation, long bytes, long budget) {
+        assertTrue(bytes <= budget, operation + " allocates " + bytes + " bytes per call, the budget is " + budget);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.whg.chess.engine;
+
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.engine.factory.Fen;
+import com.whg.chess.engine.replay.GameReplayer;
+import com.whg.chess.input.MoveReaderAdapter;
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.Piece;
+import com.whg.chess.model.enums.Color;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.whg.chess.model.Coordinates.of;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Creating boards from the starting position and from FEN")
+class BoardFactoryTest {
+
+    private static final String MOVES = "src/main/resources/moves/";
+
+    @Autowired
+    private BoardFactory boardFactory;
+
+    @Autowired
+    private GameEngine engine;
+
+    @Autowired
+    private GameReplayer gameReplayer;
+
+    @Autowired
+    private MoveReaderAdapter moveReaderAdapter;
+
+    @Test
+    @DisplayName("Starting boards are independent copies of the starting position")
+    void testStartingBoard() {
+        Board board = boardFactory.getStartingBoard();
+
+        assertEquals(32, Long.bitCount(board.getOccupied()));
+        assertEquals(Piece.WHITE_KING, board.getPiece(of("e1")));
+        assertEquals(Piece.BLACK_QUEEN, board.getPiece(of("d8")));
+        assertEquals(Color.WHITE, board.getSideToMove());
+        assertEquals(Fen.STARTING_POSITION, boardFactory.toFen(board));
+
+        engine.makeMove(board, new Move(Color.WHITE, of("e2"), of("e4")));
+
+        Board nextGame = boardFactory.getStartingBoard();
+        assertNotSame(board, nextGame);
+        assertEquals(Piece.WHITE_PAWN, nextGame.getPiece(of("e2")));
+        assertEquals(0, nextGame.getHistorySize());
+    }
+
+    @Test
+    @DisplayName("Positions of a whole game survive a round trip through FEN")
+    void testRoundTrip() {
+        List<Board> positions = new ArrayList<>();
+        gameReplayer.replay("checkmate.txt", moveReaderAdapter.readMoves(MOVES + "checkmate.txt").iterator(),
+                (move, outcome) -> positions.add(outcome.getBoard()));
+
+        assertEquals("r1bqkbnr/ppp2Qpp/2np4/4p3/2B1P3/8/PPPP1PPP/RNB1K1NR b - - 0 1", boardFactory.toFen(positions.get(positions.size() - 1)));
+
+        for (Board position : positions) {
+            Board restored = boardFactory.fromFen(boardFactory.toFen(position));
+
+            assertEquals(position, restored);
+            assertEquals(position.getZobristKey(), restored.getZobristKey());
+        }
+    }
+
+    @Test
+    @DisplayName("Only piece placement is required")
+    void testPlacementOnly() {
+        Board board = boardFactory.fromFen("4k3/8/8/8/8/8/8/4K2R");
+
+        assertEquals(Color.WHITE, board.getSideToMove());
+        assertEquals(Piece.WHITE_ROOK, board.getPiece(of("h1")));
+        assertEquals(Color.BLACK, boardFactory.fromFen("4k3/8/8/8/8/8/8/4K2R b KQ - 3 20").getSideToMove());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "8/8/8/8/8/8/8", "8/8/8/8/8/8/8/8/8", "9/8/8/8/8/8/8/8", "rnbqkbnrp/8/8/8/8/8/8/8",
+            "7/8/8/8/8/8/8/8", "x7/8/8/8/8/8/8/8", "8/8/8/8/8/8/8/8 x", "8/8/8/8/8/8/8/8 white"})
+    @DisplayName("Malformed notation is rejected")
+    void testInvalidFen(String fen) {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> boardFactory.fromFen(fen));
+
+        assertThat(thrown.getMessage(), startsWith("Invalid FEN"));
+    }
+
+}
@@ -0,0 +1,220 @@
+package com.whg.chess.engine;
+
+import com.whg.chess.config.AppConfig;
+import com.whg.chess.engine.checkpoint.Checkpoint;
+import com.whg.chess.engine.checkpoint.CheckpointFile;
+import com.whg.chess.engine.checkpoint.CheckpointedGame;
+import com.whg.chess.engine.checkpoint.GameCheckpointer;
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.input.MoveReaderAdapter;
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.MoveOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Resuming games from checkpoints")
+class GameCheckpointerTest {
+
+    private static final List<String> MOVES = List.of("e2e4", "e7e5", "b1c3", "d7d6", "h2h3", "c8e6", "h1h2");
+
+    @Autowired
+    private GameEngine engine;
+
+    @Autowired
+    private BoardFactory boardFactory;
+
+    @Autowired
+    private MoveReaderAdapter moveReaderAdapter;
+
+    @Autowired
+    private CheckpointFile checkpointFile;
+
+    @TempDir
+    Path directory;
+
+    private GameCheckpointer gameCheckpointer;
+    private String location;
+
+    @BeforeEach
+    void checkpointEveryTwoMoves() {
+        AppConfig appConfig = new AppConfig();
+        appConfig.setBoardSize(8);
+        appConfig.setCheckpointInterval(2);
+
+        gameCheckpointer = new GameCheckpointer(appConfig, boardFactory, checkpointFile);
+        location = directory.resolve("game.txt").toString();
+    }
+
+    @Test
+    @DisplayName("Checkpoints are stored every N legal moves")
+    void testCheckpointsStored() throws IOException {
+        writeMoves(MOVES);
+
+        Replay replay = replay();
+
+        assertEquals(0, replay.restoredMoves);
+        assertEquals(7, replay.validatedMoves);
+        assertEquals(List.of(2, 4, 6), checkpointFile.read(location).stream().map(Checkpoint::getMoveIndex).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Appended moves are validated from the latest checkpoint")
+    void testResumeAfterAppend() throws IOException {
+        writeMoves(MOVES);
+        replay();
+
+        writeMoves(append(MOVES, "d8d7", "a2a3", "b8c6"));
+        Replay replay = replay();
+
+        assertEquals(6, replay.restoredMoves);
+        assertEquals(4, replay.validatedMoves);
+        assertEquals(replayFromScratch(append(MOVES, "d8d7", "a2a3", "b8c6")), replay.board);
+        assertEquals(List.of(2, 4, 6, 8, 10), checkpointFile.read(location).stream().map(Checkpoint::getMoveIndex).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Checkpoints after a changed move are not trusted")
+    void testChangedPrefix() throws IOException {
+        writeMoves(MOVES);
+        replay();
+
+        List<String> changed = List.of("e2e4", "e7e5", "g1f3", "d7d6", "h2h3", "c8e6", "h1g1");
+        writeMoves(changed);
+        Replay replay = replay();
+
+        assertEquals(2, replay.restoredMoves);
+        assertEquals(5, replay.validatedMoves);
+        assertEquals(replayFromScratch(changed), replay.board);
+    }
+
+    @Test
+    @DisplayName("A shortened game restores the latest checkpoint it still reaches")
+    void testShortenedGame() throws IOException {
+        writeMoves(MOVES);
+        replay();
+
+        writeMoves(MOVES.subList(0, 5));
+        Replay replay = replay();
+
+        assertEquals(4, replay.restoredMoves);
+        assertEquals(1, replay.validatedMoves);
+        assertEquals(List.of(2, 4), checkpointFile.read(location).stream().map(Checkpoint::getMoveIndex).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Unreadable checkpoints are ignored")
+    void testCorruptSidecar() throws IOException {
+        writeMoves(MOVES);
+        Files.writeString(checkpointFile.locationOf(location), "garbage");
+
+        Replay replay = replay();
+
+        assertEquals(0, replay.restoredMoves);
+        assertEquals(7, replay.validatedMoves);
+
+        Files.writeString(checkpointFile.locationOf(location), Files.readString(checkpointFile.locationOf(location)).replace("K", "X"));
+
+        replay = replay();
+
+        assertEquals(0, replay.restoredMoves);
+        assertEquals(7, replay.validatedMoves);
+    }
+
+    @Test
+    @DisplayName("Checkpoints are trusted up to the first one whose position cannot be parsed")
+    void testCorruptPosition() throws IOException {
+        writeMoves(MOVES);
+        replay();
+
+        Path sidecar = checkpointFile.locationOf(location);
+        List<String> lines = new ArrayList<>(Files.readAllLines(sidecar));
+        lines.set(2, lines.get(2).replace("K", "X"));
+        Files.write(sidecar, lines);
+
+        Replay replay = replay();
+
+        assertEquals(2, replay.restoredMoves);
+        assertEquals(5, replay.validatedMoves);
+    }
+
+    @Test
+    @DisplayName("A failed write leaves no temporary file behind")
+    void testFailedWrite() throws IOException {
+        Path sidecar = checkpointFile.locationOf(location);
+        Files.createDirectories(sidecar.resolve("blocking"));
+
+        assertThrows(UncheckedIOException.class, () -> checkpointFile.write(location, List.of()));
+        assertFalse(Files.exists(sidecar.resolveSibling(sidecar.getFileName() + ".tmp")));
+    }
+
+    private Replay replay() {
+        Replay replay = new Replay();
+
+        try (var moves = moveReaderAdapter.streamMoves(location)) {
+            CheckpointedGame game = gameCheckpointer.resume(location, moves.iterator());
+            replay.restoredMoves = game.getRestoredMoves();
+            replay.board = game.getBoard();
+
+            for (Iterator<Move> remaining = game.getRemainingMoves(); remaining.hasNext(); ) {
+                Move move = remaining.next();
+                MoveOutcome outcome = engine.tryMove(replay.board, move);
+                if (!outcome.isLegal()) {
+                    break;
+                }
+                replay.board = outcome.getBoard();
+                replay.validatedMoves++;
+                game.moveApplied(move, replay.board);
+            }
+            game.save();
+        }
+
+        return replay;
+    }
+
+    private Board replayFromScratch(List<String> notations) {
+        Board board = boardFactory.getStartingBoard();
+
+        for (Move move : moveReaderAdapter.readMoves(location)) {
+            board = engine.performMove(board, move);
+        }
+        assertEquals(notations.size(), moveReaderAdapter.readMoves(location).size());
+
+        return board;
+    }
+
+    private void writeMoves(List<String> moves) throws IOException {
+        Files.write(Path.of(location), moves);
+    }
+
+    private static List<String> append(List<String> moves, String... appended) {
+        List<String> all = new ArrayList<>(moves);
+        all.addAll(List.of(appended));
+        return all;
+    }
+
+    private static class Replay {
+        private int restoredMoves;
+        private int validatedMoves;
+        private Board board;
+    }
+
+}
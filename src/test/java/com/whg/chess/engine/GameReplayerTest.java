@@ -0,0 +1,66 @@
+package com.whg.chess.engine;
+
+import com.whg.chess.engine.replay.GameReplayer;
+import com.whg.chess.engine.replay.GameSummary;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.enums.Color;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.whg.chess.model.Coordinates.of;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Replaying whole games")
+class GameReplayerTest {
+
+    private static final String MOVES = "src/main/resources/moves/";
+
+    @Autowired
+    private GameReplayer gameReplayer;
+
+    @Test
+    @DisplayName("Legal game is replayed to the end")
+    void testLegalGame() {
+        GameSummary summary = gameReplayer.replay(MOVES + "sample-moves.txt");
+
+        assertTrue(summary.isValid());
+        assertEquals(7, summary.getMovesApplied());
+        assertNull(summary.getIllegalMove());
+    }
+
+    @Test
+    @DisplayName("Replay stops at the first illegal move")
+    void testIllegalMove() {
+        GameSummary summary = gameReplayer.replay(MOVES + "sample-moves-invalid.txt");
+
+        assertFalse(summary.isValid());
+        assertEquals(2, summary.getMovesApplied());
+        assertEquals(new Move(Color.WHITE, of("b1"), of("b3")), summary.getIllegalMove());
+        assertEquals("The knight at B1 can't move to B3 since the target is not reachable via L path", summary.getFailure());
+    }
+
+    @Test
+    @DisplayName("Final check status is reported")
+    void testFinalCheck() {
+        GameSummary summary = gameReplayer.replay(MOVES + "checkmate.txt");
+
+        assertTrue(summary.isValid());
+        assertTrue(summary.isInCheck(Color.BLACK));
+        assertFalse(summary.isInCheck(Color.WHITE));
+    }
+
+    @Test
+    @DisplayName("Missing file is reported as a failed game")
+    void testMissingFile() {
+        GameSummary summary = gameReplayer.replay("non-existent-file-path");
+
+        assertFalse(summary.isValid());
+        assertEquals(0, summary.getMovesApplied());
+    }
+
+}
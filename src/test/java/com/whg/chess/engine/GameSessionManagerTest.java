@@ -0,0 +1,87 @@
+package com.whg.chess.engine;
+
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.engine.session.GameSession;
+import com.whg.chess.engine.session.GameSessionManager;
+import com.whg.chess.input.impl.FileMoveReaderAdapter;
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.MoveOutcome;
+import com.whg.chess.model.enums.Color;
+import com.whg.chess.model.enums.FailureCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.whg.chess.model.Coordinates.of;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Live game sessions")
+class GameSessionManagerTest {
+
+    @Autowired
+    private GameSessionManager gameSessionManager;
+
+    @Autowired
+    private GameEngine engine;
+
+    @Autowired
+    private BoardFactory boardFactory;
+
+    @Autowired
+    private FileMoveReaderAdapter moveReaderAdapter;
+
+    @Test
+    @DisplayName("Moves of many concurrent games are validated in the order of submission")
+    void testOrderingPerSession() {
+        List<Move> moves = moveReaderAdapter.readMoves("src/main/resources/moves/sample-moves.txt");
+        List<GameSession> sessions = IntStream.range(0, 1_000)
+                .mapToObj(i -> gameSessionManager.openSession())
+                .collect(Collectors.toList());
+
+        List<CompletableFuture<MoveOutcome>> outcomes = new ArrayList<>();
+        for (Move move : moves) {
+            sessions.parallelStream().map(session -> session.submitMove(move)).forEachOrdered(outcomes::add);
+        }
+
+        outcomes.forEach(outcome -> assertTrue(outcome.join().isLegal()));
+
+        Board expected = boardFactory.getStartingBoard();
+        moves.forEach(move -> engine.makeMove(expected, move));
+        sessions.forEach(session -> {
+            assertEquals(expected, session.getBoard());
+            assertTrue(gameSessionManager.closeSession(session.getId()));
+        });
+    }
+
+    @Test
+    @DisplayName("A move out of turn is rejected and leaves the game unchanged")
+    void testWrongTurn() {
+        GameSession session = gameSessionManager.openSession();
+
+        MoveOutcome outcome = session.submitMove(new Move(Color.BLACK, of("e7"), of("e5"))).join();
+
+        assertFalse(outcome.isLegal());
+        assertEquals(FailureCode.WRONG_TURN, outcome.getFailureCode());
+        assertEquals("BLACK color player is trying to move while it's WHITE's turn", outcome.getExplanation());
+        assertEquals(boardFactory.getStartingBoard(), session.getBoard());
+
+        assertTrue(gameSessionManager.submitMove(session.getId(), new Move(Color.WHITE, of("e2"), of("e4"))).join().isLegal());
+        assertEquals(Color.BLACK, session.getSideToMove());
+
+        gameSessionManager.closeSession(session.getId());
+        assertThrows(IllegalArgumentException.class,
+                () -> gameSessionManager.submitMove(session.getId(), new Move(Color.BLACK, of("e7"), of("e5"))));
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.whg.chess.engine;
+
+import com.whg.chess.engine.jfr.CheckDetectionEvent;
+import com.whg.chess.engine.jfr.MoveValidationEvent;
+import com.whg.chess.engine.jfr.RulePhaseEvent;
+import com.whg.chess.engine.replay.GameReplayer;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Flight recorder events of the engine")
+class JfrEventsTest {
+
+    private static final String MOVES = "src/main/resources/moves/";
+
+    @Autowired
+    private GameReplayer gameReplayer;
+
+    @TempDir
+    Path recordingDirectory;
+
+    @Test
+    @DisplayName("Every move, rule phase and check detection is recorded")
+    void testEvents() throws IOException {
+        List<RecordedEvent> events = record(() -> gameReplayer.replay(MOVES + "sample-moves-invalid.txt"));
+
+        List<RecordedEvent> moves = eventsNamed(events, "com.whg.chess.MoveValidation");
+        assertEquals(3, moves.size());
+        assertTrue(moves.get(0).getBoolean("legal"));
+        assertEquals("E2E4", moves.get(0).getString("move"));
+        assertEquals("PAWN", moves.get(0).getString("piece"));
+
+        RecordedEvent illegal = moves.get(2);
+        assertFalse(illegal.getBoolean("legal"));
+        assertEquals("WHITE", illegal.getString("color"));
+        assertEquals("B1B3", illegal.getString("move"));
+        assertEquals("KNIGHT", illegal.getString("piece"));
+        assertEquals("KNIGHT_NOT_ON_L_PATH", illegal.getString("failure"));
+
+        List<RecordedEvent> rejections = eventsNamed(events, "com.whg.chess.RulePhase").stream()
+                .filter(event -> !event.getBoolean("passed"))
+                .collect(Collectors.toList());
+        assertEquals(1, rejections.size());
+        assertEquals(RulePhaseEvent.PIECE, rejections.get(0).getString("phase"));
+        assertEquals("KnightRule", rejections.get(0).getString("rule"));
+
+        List<RecordedEvent> postMovePhases = eventsNamed(events, "com.whg.chess.RulePhase").stream()
+                .filter(event -> RulePhaseEvent.POST_MOVE.equals(event.getString("phase")))
+                .collect(Collectors.toList());
+        assertEquals(2, postMovePhases.size());
+        assertEquals("PAWN", postMovePhases.get(0).getString("piece"));
+
+        assertFalse(eventsNamed(events, "com.whg.chess.CheckDetection").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Nothing is committed when the events are not enabled")
+    void testDisabledEvents() {
+        assertFalse(new MoveValidationEvent().isEnabled());
+        assertFalse(new RulePhaseEvent().isEnabled());
+        assertFalse(new CheckDetectionEvent().isEnabled());
+    }
+
+    @Test
+    @DisplayName("Default recordings only catch slow validations, without stack traces")
+    void testDefaultSettings() {
+        assertEquals("1 ms", defaultSetting(MoveValidationEvent.class, "threshold"));
+        assertEquals("1 ms", defaultSetting(RulePhaseEvent.class, "threshold"));
+        assertEquals("false", defaultSetting(MoveValidationEvent.class, "stackTrace"));
+        assertEquals("false", defaultSetting(RulePhaseEvent.class, "stackTrace"));
+        assertEquals("false", defaultSetting(CheckDetectionEvent.class, "stackTrace"));
+        assertEquals("true", defaultSetting(MoveValidationEvent.class, "enabled"));
+        assertEquals("false", defaultSetting(CheckDetectionEvent.class, "enabled"));
+    }
+
+    private static String defaultSetting(Class<? extends Event> eventClass, String name) {
+        return EventType.getEventType(eventClass).getSettingDescriptors().stream()
+                .filter(setting -> setting.getName().equals(name))
+                .findFirst()
+                .orElseThrow()
+                .getDefaultValue();
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws IOException {
+        Path file = recordingDirectory.resolve("engine.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(MoveValidationEvent.class).withoutThreshold();
+            recording.enable(RulePhaseEvent.class).withoutThreshold();
+            recording.enable(CheckDetectionEvent.class).withoutThreshold();
+            recording.start();
+
+            action.run();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted((first, second) -> first.getStartTime().compareTo(second.getStartTime()))
+                .collect(Collectors.toList());
+    }
+
+}
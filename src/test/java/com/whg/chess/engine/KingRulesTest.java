@@ -79,6 +79,47 @@ class KingRulesTest {
         assertThat(thrown.getMessage(), containsString("The king at " + from + " can't move to " + to + " since it will be under attack"));
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "E4,E5, PAWN,D6, Moving to a square attacked by a pawn",
+            "E4,E5, KNIGHT,F7, Moving to a square attacked by a knight",
+            "E4,F4, ROOK,A4, Moving away from a rook along its line",
+            "E4,D3, BISHOP,G6, Moving away from a bishop along its diagonal",
+            "E4,E5, KING,E6, Moving next to the opponent's king"
+    })
+    @DisplayName("Test moving to empty squares attacked by opponent's pieces")
+    void testMovesToAttackedSquares(Coordinates from, Coordinates to, PieceName attacker, Coordinates attackerPosition, String comment) {
+        Board board = boardFactory.getClearBoard();
+
+        setKing(board, from);
+        setOpponentsPiece(board, attackerPosition, attacker);
+
+        ChessRuleException thrown = assertThrows(
+                ChessRuleException.class,
+                () -> engine.performMove(board, new Move(Color.WHITE, from, to))
+        );
+
+        assertThat(thrown.getMessage(), containsString("The king at " + from + " can't move to " + to + " since it will be under attack"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "E4,D5, PAWN,D6, A pawn doesn't attack the square in front of it",
+            "E4,E5, KING,E8, The opponent's king is two squares away",
+            "E4,F5, ROOK,A4, The rook's line is left"
+    })
+    @DisplayName("Test moving to empty squares not attacked by opponent's pieces")
+    void testMovesToSafeSquares(Coordinates from, Coordinates to, PieceName opponent, Coordinates opponentPosition, String comment) {
+        Board board = boardFactory.getClearBoard();
+
+        setKing(board, from);
+        setOpponentsPiece(board, opponentPosition, opponent);
+
+        Board afterMove = engine.performMove(board, new Move(Color.WHITE, from, to));
+
+        assertEquals(PieceName.KING, afterMove.getSquare(to).getPiece().getName());
+    }
+
     @ParameterizedTest
     @CsvSource({
             "E4,E6, King moving to far to north",
@@ -0,0 +1,74 @@
+package com.whg.chess.engine;
+
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.engine.rule.exceptions.ChessRuleException;
+import com.whg.chess.model.*;
+import com.whg.chess.model.enums.Color;
+import com.whg.chess.model.enums.PieceName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.whg.chess.model.Coordinates.of;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("In place make/unmake of moves")
+class MakeUnmakeMoveTest {
+
+    @Autowired
+    private GameEngine engine;
+
+    @Autowired
+    private BoardFactory boardFactory;
+
+    @Test
+    @DisplayName("Moves can be taken back one by one restoring captured pieces")
+    void testTakeBack() {
+        Board board = boardFactory.getStartingBoard();
+        Board startingBoard = new Board(board);
+
+        engine.makeMove(board, new Move(Color.WHITE, of("e2"), of("e4")));
+        engine.makeMove(board, new Move(Color.BLACK, of("d7"), of("d5")));
+        Board beforeCapture = new Board(board);
+        engine.makeMove(board, new Move(Color.WHITE, of("e4"), of("d5")));
+
+        assertEquals(new Piece(PieceName.PAWN, Color.WHITE), board.getPiece(of("d5")));
+
+        engine.unmakeMove(board);
+        assertEquals(beforeCapture, board);
+        assertEquals(new Piece(PieceName.PAWN, Color.BLACK), board.getPiece(of("d5")));
+
+        engine.unmakeMove(board);
+        engine.unmakeMove(board);
+        assertEquals(startingBoard, board);
+
+        ChessRuleException thrown = assertThrows(ChessRuleException.class, () -> engine.unmakeMove(board));
+        assertThat(thrown.getMessage(), containsString("There is no move to take back"));
+    }
+
+    @Test
+    @DisplayName("A move leaving the king in check is rejected and the board stays unchanged")
+    void testRejectedMoveIsReverted() {
+        Board board = boardFactory.getClearBoard();
+        board.setPiece(of("e1"), new Piece(PieceName.KING, Color.WHITE));
+        board.setPiece(of("e2"), new Piece(PieceName.ROOK, Color.WHITE));
+        board.setPiece(of("e8"), new Piece(PieceName.ROOK, Color.BLACK));
+        Board before = new Board(board);
+
+        Move openingCheck = new Move(Color.WHITE, of("e2"), of("a2"));
+
+        assertFalse(engine.isLegalMove(board, openingCheck));
+        assertThrows(ChessRuleException.class, () -> engine.makeMove(board, openingCheck));
+
+        assertEquals(before, board);
+        assertEquals(0, board.getHistorySize());
+        assertTrue(engine.isLegalMove(board, new Move(Color.WHITE, of("e2"), of("e8"))));
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.whg.chess.engine;
+
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.model.*;
+import com.whg.chess.model.enums.Color;
+import com.whg.chess.model.enums.PieceName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.whg.chess.model.Coordinates.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Legal move generation")
+class MoveGeneratorTest {
+
+    @Autowired
+    private GameEngine engine;
+
+    @Autowired
+    private BoardFactory boardFactory;
+
+    @Test
+    @DisplayName("Both sides have 20 moves in the starting position")
+    void testStartingPosition() {
+        Board board = boardFactory.getStartingBoard();
+
+        assertEquals(20, engine.generateLegalMoves(board, Color.WHITE).size());
+        assertEquals(20, engine.generateLegalMoves(board, Color.BLACK).size());
+        assertGeneratedMovesAreLegal(board);
+    }
+
+    @Test
+    @DisplayName("Generated moves match the rules after an opening with captures")
+    void testOpening() {
+        Board board = boardFactory.getStartingBoard();
+        engine.makeMove(board, new Move(Color.WHITE, of("e2"), of("e4")));
+        engine.makeMove(board, new Move(Color.BLACK, of("d7"), of("d5")));
+        engine.makeMove(board, new Move(Color.WHITE, of("f1"), of("b5")));
+        engine.makeMove(board, new Move(Color.BLACK, of("c7"), of("c6")));
+        engine.makeMove(board, new Move(Color.WHITE, of("d1"), of("h5")));
+
+        assertGeneratedMovesAreLegal(board);
+    }
+
+    @Test
+    @DisplayName("A pinned piece only moves along the pin")
+    void testPinnedPiece() {
+        Board board = boardFactory.getClearBoard();
+        board.setPiece(of("e1"), new Piece(PieceName.KING, Color.WHITE));
+        board.setPiece(of("e4"), new Piece(PieceName.ROOK, Color.WHITE));
+        board.setPiece(of("c3"), new Piece(PieceName.BISHOP, Color.WHITE));
+        board.setPiece(of("e8"), new Piece(PieceName.QUEEN, Color.BLACK));
+        board.setPiece(of("a5"), new Piece(PieceName.BISHOP, Color.BLACK));
+        board.setPiece(of("h8"), new Piece(PieceName.KING, Color.BLACK));
+
+        MoveList moves = engine.generateLegalMoves(board, Color.WHITE);
+
+        assertTrue(moves.contains(Board.squareOf(of("e4")), Board.squareOf(of("e8"))));
+        assertTrue(moves.contains(Board.squareOf(of("c3")), Board.squareOf(of("a5"))));
+        assertFalse(moves.contains(Board.squareOf(of("e4")), Board.squareOf(of("a4"))));
+        assertGeneratedMovesAreLegal(board);
+    }
+
+    @Test
+    @DisplayName("Check has to be answered by capturing, blocking or moving the king")
+    void testCheckEvasions() {
+        Board board = boardFactory.getClearBoard();
+        board.setPiece(of("e1"), new Piece(PieceName.KING, Color.WHITE));
+        board.setPiece(of("a3"), new Piece(PieceName.ROOK, Color.WHITE));
+        board.setPiece(of("b2"), new Piece(PieceName.KNIGHT, Color.WHITE));
+        board.setPiece(of("g2"), new Piece(PieceName.PAWN, Color.WHITE));
+        board.setPiece(of("h4"), new Piece(PieceName.BISHOP, Color.BLACK));
+        board.setPiece(of("e8"), new Piece(PieceName.KING, Color.BLACK));
+
+        assertGeneratedMovesAreLegal(board);
+    }
+
+    @Test
+    @DisplayName("Only the king moves in double check")
+    void testDoubleCheck() {
+        Board board = boardFactory.getClearBoard();
+        board.setPiece(of("e1"), new Piece(PieceName.KING, Color.WHITE));
+        board.setPiece(of("d1"), new Piece(PieceName.QUEEN, Color.WHITE));
+        board.setPiece(of("e7"), new Piece(PieceName.ROOK, Color.BLACK));
+        board.setPiece(of("f3"), new Piece(PieceName.KNIGHT, Color.BLACK));
+        board.setPiece(of("a8"), new Piece(PieceName.KING, Color.BLACK));
+
+        MoveList moves = engine.generateLegalMoves(board, Color.WHITE);
+
+        for (int i = 0; i < moves.size(); i++) {
+            assertEquals(Board.squareOf(of("e1")), moves.getFrom(i));
+        }
+        assertGeneratedMovesAreLegal(board);
+    }
+
+    @Test
+    @DisplayName("The list is cleared and reused between positions")
+    void testListReuse() {
+        Board board = boardFactory.getStartingBoard();
+        MoveList moves = new MoveList(1);
+
+        engine.generateLegalMoves(board, Color.WHITE, moves);
+        engine.generateLegalMoves(board, Color.WHITE, moves);
+
+        assertEquals(20, moves.size());
+    }
+
+    private void assertGeneratedMovesAreLegal(Board board) {
+        for (Color color : Color.values()) {
+            assertEquals(getLegalMovesByRules(board, color), toSet(engine.generateLegalMoves(board, color)), color + " moves");
+        }
+    }
+
+    private Set<Integer> getLegalMovesByRules(Board board, Color color) {
+        Set<Integer> moves = new TreeSet<>();
+
+        for (int from = 0; from < board.getSize() * board.getSize(); from++) {
+            for (int to = 0; to < board.getSize() * board.getSize(); to++) {
+                Move move = new Move(color, Coordinates.ofSquare(from), Coordinates.ofSquare(to));
+                if (engine.isLegalMove(board, move)) {
+                    moves.add(MoveList.pack(from, to));
+                }
+            }
+        }
+
+        return moves;
+    }
+
+    private Set<Integer> toSet(MoveList moveList) {
+        Set<Integer> moves = new TreeSet<>();
+
+        for (int i = 0; i < moveList.size(); i++) {
+            moves.add(moveList.get(i));
+        }
+
+        return moves;
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.whg.chess.engine;
+
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.engine.perft.Perft;
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Coordinates;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.enums.Color;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.whg.chess.model.Coordinates.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Perft node counts")
+class PerftTest {
+
+    @Autowired
+    private Perft perft;
+
+    @Autowired
+    private GameEngine engine;
+
+    @Autowired
+    private BoardFactory boardFactory;
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5})
+    @DisplayName("Starting position matches the reference counts")
+    void testStartingPosition(int depth) {
+        Board board = boardFactory.getStartingBoard();
+        Board before = new Board(board);
+
+        assertEquals(Perft.STARTING_POSITION_NODES[depth], perft.countNodes(board, depth));
+        assertEquals(before, board);
+    }
+
+    @Test
+    @DisplayName("Generated move tree agrees with the rule based validator")
+    void testAgreesWithRules() {
+        Board board = boardFactory.getStartingBoard();
+        engine.makeMove(board, new Move(Color.WHITE, of("e2"), of("e4")));
+        engine.makeMove(board, new Move(Color.BLACK, of("d7"), of("d5")));
+        engine.makeMove(board, new Move(Color.WHITE, of("f1"), of("b5")));
+
+        assertEquals(countNodesByRules(board, 3), perft.countNodes(board, 3));
+    }
+
+    /**
+     * Reference perft trying every from/to pair through {@link GameEngine#isLegalMove(Board, Move)}.
+     */
+    private long countNodesByRules(Board board, int depth) {
+        if (depth == 0) {
+            return 1L;
+        }
+
+        long nodes = 0L;
+        int squares = board.getSize() * board.getSize();
+
+        for (int from = 0; from < squares; from++) {
+            if (board.getColor(from) != board.getSideToMove()) {
+                continue;
+            }
+
+            for (int to = 0; to < squares; to++) {
+                Move move = new Move(board.getSideToMove(), toCoordinates(from), toCoordinates(to));
+                if (engine.isLegalMove(board, move)) {
+                    board.makeMove(from, to);
+                    nodes += countNodesByRules(board, depth - 1);
+                    board.unmakeMove();
+                }
+            }
+        }
+
+        return nodes;
+    }
+
+    private Coordinates toCoordinates(int square) {
+        return Coordinates.ofSquare(square);
+    }
+
+}
@@ -79,6 +79,28 @@ class RookRulesTest {
         assertThat(thrown.getMessage(), containsString(to + " can't be reached since there is a piece at " + pieceOnPath + " on the path"));
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "E4,E8,E6,E7, The nearest piece on the path north is reported",
+            "E4,A4,C4,B4, The nearest piece on the path west is reported"
+    })
+    @DisplayName("Requirement #8. The first piece in the way is reported when there are several")
+    void testSeveralPiecesOnThePath(Coordinates from, Coordinates to, Coordinates nearestPiece, Coordinates furtherPiece, String comment) {
+        Board board = boardFactory.getClearBoard();
+
+        setRook(board, from);
+        setOpponentsPiece(board, to);
+        setOpponentsPiece(board, furtherPiece);
+        setOpponentsPiece(board, nearestPiece);
+
+        ChessRuleException thrown = assertThrows(
+                ChessRuleException.class,
+                () -> engine.performMove(board, new Move(Color.WHITE, from, to))
+        );
+
+        assertThat(thrown.getMessage(), containsString(to + " can't be reached since there is a piece at " + nearestPiece + " on the path"));
+    }
+
     @Test
     @DisplayName("Target is neither on horizontal nor it is on vertical")
     void testTargetNotReachable() {
@@ -0,0 +1,86 @@
+package com.whg.chess.engine;
+
+import com.whg.chess.engine.metrics.RuleMetrics;
+import com.whg.chess.engine.metrics.RuleStats;
+import com.whg.chess.engine.replay.GameReplayer;
+import com.whg.chess.engine.rule.helper.KingUtils;
+import com.whg.chess.engine.rule.impl.general.BordersRule;
+import com.whg.chess.engine.rule.impl.piece.KnightRule;
+import com.whg.chess.engine.rule.impl.piece.PawnRule;
+import com.whg.chess.engine.rule.impl.postmove.KingInCheckPostMoveRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Per rule metrics")
+class RuleMetricsTest {
+
+    private static final String MOVES = "src/main/resources/moves/";
+
+    @Autowired
+    private RuleMetrics ruleMetrics;
+
+    @Autowired
+    private GameReplayer gameReplayer;
+
+    @BeforeEach
+    void resetMetrics() {
+        ruleMetrics.reset();
+    }
+
+    @Test
+    @DisplayName("Invocations and rejections are counted per rule")
+    void testCounters() {
+        gameReplayer.replay(MOVES + "sample-moves-invalid.txt");
+
+        assertEquals(3, ruleMetrics.statsFor(BordersRule.class).getInvocations());
+        assertEquals(0, ruleMetrics.statsFor(BordersRule.class).getFailures());
+        assertEquals(2, ruleMetrics.statsFor(PawnRule.class).getInvocations());
+        assertEquals(1, ruleMetrics.statsFor(KnightRule.class).getInvocations());
+        assertEquals(1, ruleMetrics.statsFor(KnightRule.class).getFailures());
+        assertEquals(2, ruleMetrics.statsFor(KingInCheckPostMoveRule.class).getInvocations());
+        assertTrue(ruleMetrics.statsFor(KingUtils.class).getInvocations() > 0);
+    }
+
+    @Test
+    @DisplayName("Summary lists every rule")
+    void testSummary() {
+        gameReplayer.replay(MOVES + "checkmate.txt");
+
+        String summary = ruleMetrics.getSummary();
+
+        for (RuleStats stats : ruleMetrics.getStats()) {
+            assertThat(summary, containsString(stats.getName()));
+        }
+        assertThat(summary, containsString("QueenRule"));
+    }
+
+    @Test
+    @DisplayName("Stats are published over JMX")
+    void testMBeans() throws Exception {
+        gameReplayer.replay(MOVES + "sample-moves.txt");
+        ruleMetrics.registerMBeans();
+        try {
+            Object invocations = ManagementFactory.getPlatformMBeanServer()
+                    .getAttribute(RuleMetrics.objectNameOf(ruleMetrics.statsFor(PawnRule.class)), "Invocations");
+
+            assertEquals(ruleMetrics.statsFor(PawnRule.class).getInvocations(), invocations);
+        } finally {
+            ruleMetrics.unregisterMBeans();
+        }
+
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(RuleMetrics.objectNameOf(ruleMetrics.statsFor(PawnRule.class))));
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.whg.chess.engine;
+
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.engine.rule.helper.KingUtils;
+import com.whg.chess.model.Board;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.MoveOutcome;
+import com.whg.chess.model.Piece;
+import com.whg.chess.model.enums.Color;
+import com.whg.chess.model.enums.FailureCode;
+import com.whg.chess.model.enums.PieceName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.whg.chess.model.Coordinates.of;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Trying moves without exceptions")
+class TryMoveTest {
+
+    @Autowired
+    private GameEngine engine;
+
+    @Autowired
+    private BoardFactory boardFactory;
+
+    @Autowired
+    private KingUtils kingUtils;
+
+    @Test
+    @DisplayName("Legal move returns the new position and leaves the board untouched")
+    void testLegalMove() {
+        Board board = boardFactory.getStartingBoard();
+        Board before = new Board(board);
+
+        MoveOutcome outcome = engine.tryMove(board, new Move(Color.WHITE, of("e2"), of("e4")));
+
+        assertTrue(outcome.isLegal());
+        assertFalse(outcome.isOpponentInCheck());
+        assertNull(outcome.getFailureCode());
+        assertEquals(new Piece(PieceName.PAWN, Color.WHITE), outcome.getBoard().getPiece(of("e4")));
+        assertEquals(before, board);
+    }
+
+    @Test
+    @DisplayName("Illegal move is reported with its failure code")
+    void testIllegalMove() {
+        Board board = boardFactory.getStartingBoard();
+
+        MoveOutcome outcome = engine.tryMove(board, new Move(Color.WHITE, of("e2"), of("e5")));
+
+        assertFalse(outcome.isLegal());
+        assertNull(outcome.getBoard());
+        assertEquals(FailureCode.PAWN_INVALID_MOVE, outcome.getFailureCode());
+        assertEquals("WHITE pawn on E2 is not allowed to piece to E5", outcome.getExplanation());
+    }
+
+    @Test
+    @DisplayName("Moves exposing the own king are illegal and checks to the opponent are reported")
+    void testCheck() {
+        Board board = boardFactory.getClearBoard();
+        board.setPiece(of("e1"), new Piece(PieceName.KING, Color.WHITE));
+        board.setPiece(of("e2"), new Piece(PieceName.ROOK, Color.WHITE));
+        board.setPiece(of("e8"), new Piece(PieceName.KING, Color.BLACK));
+        board.setPiece(of("a7"), new Piece(PieceName.ROOK, Color.BLACK));
+        board.setPiece(of("e6"), new Piece(PieceName.ROOK, Color.BLACK));
+
+        MoveOutcome exposingKing = engine.tryMove(board, new Move(Color.WHITE, of("e2"), of("d2")));
+        assertEquals(FailureCode.KING_IN_CHECK, exposingKing.getFailureCode());
+
+        MoveOutcome givingCheck = engine.tryMove(board, new Move(Color.BLACK, of("a7"), of("a1")));
+        assertTrue(givingCheck.isLegal());
+        assertTrue(givingCheck.isOpponentInCheck());
+        assertTrue(givingCheck.isInCheck(Color.WHITE));
+        assertFalse(givingCheck.isInCheck(Color.BLACK));
+    }
+
+    @Test
+    @DisplayName("Check status is cached on the board until the pieces change")
+    void testCheckStatusCache() {
+        Board board = boardFactory.getClearBoard();
+        board.setPiece(of("e1"), new Piece(PieceName.KING, Color.WHITE));
+        board.setPiece(of("e8"), new Piece(PieceName.KING, Color.BLACK));
+        board.setPiece(of("a1"), new Piece(PieceName.ROOK, Color.BLACK));
+
+        assertEquals(Board.CHECKS_NOT_COMPUTED, board.getCheckedKings());
+        assertTrue(kingUtils.isKingUnderAttack(board, Color.WHITE));
+        assertEquals(KingUtils.checkBit(Color.WHITE), board.getCheckedKings());
+
+        board.makeMove(Board.squareOf(of("a1")), Board.squareOf(of("a2")));
+
+        assertEquals(Board.CHECKS_NOT_COMPUTED, board.getCheckedKings());
+        assertFalse(kingUtils.isKingUnderAttack(board, Color.WHITE));
+        assertFalse(kingUtils.isKingUnderAttack(board, Color.BLACK));
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.whg.chess.engine.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Counters and sampled timing of a single rule")
+class RuleStatsTest {
+
+    private static final int EXPECTED_TIMED = 1000;
+
+    @Test
+    @DisplayName("Every invocation is counted and about one in the sampling interval is timed")
+    void testSampledTime() {
+        RuleStats stats = new RuleStats("rule");
+
+        for (int i = 0; i < RuleStats.SAMPLING_INTERVAL * EXPECTED_TIMED; i++) {
+            long start = stats.start();
+            waitForClockTick();
+            stats.record(start, i % 2 == 0);
+        }
+
+        assertEquals(RuleStats.SAMPLING_INTERVAL * EXPECTED_TIMED, stats.getInvocations());
+        assertEquals(RuleStats.SAMPLING_INTERVAL * EXPECTED_TIMED / 2, stats.getFailures());
+        // Sampling is random, the bounds are more than six standard deviations away from the expected count
+        assertThat(stats.getTimedInvocations(), allOf(greaterThanOrEqualTo(800L), lessThanOrEqualTo(1200L)));
+        assertThat(stats.getMeanNanos(), greaterThan(0L));
+    }
+
+    @Test
+    @DisplayName("Reset clears the counters and the timing")
+    void testReset() {
+        RuleStats stats = new RuleStats("rule");
+        for (int i = 0; i < RuleStats.SAMPLING_INTERVAL * 10; i++) {
+            stats.record(stats.start(), true);
+        }
+
+        stats.reset();
+
+        assertEquals(0, stats.getInvocations());
+        assertEquals(0, stats.getFailures());
+        assertEquals(0, stats.getTimedInvocations());
+        assertEquals(0, stats.getMeanNanos());
+    }
+
+    /**
+     * Makes every timed invocation last at least one tick of {@link System#nanoTime()}.
+     */
+    private static void waitForClockTick() {
+        long now = System.nanoTime();
+        while (System.nanoTime() == now) {
+            Thread.onSpinWait();
+        }
+    }
+}
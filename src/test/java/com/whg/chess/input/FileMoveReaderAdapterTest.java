@@ -16,8 +16,11 @@ import org.springframework.test.context.ActiveProfiles;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static com.whg.chess.model.Coordinates.of;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -55,6 +58,27 @@ class FileMoveReaderAdapterTest {
         assertThrows(ReaderException.class, () -> moveReaderAdapter.readMoves("non-existent-file-path"));
     }
 
+    @Test
+    @DisplayName("Test streaming moves stops reading at the move the consumer stops at")
+    void testStreamingMoves() throws Exception {
+        Path path = tempDir.resolve("streamed-moves.txt");
+        Files.writeString(path, "e2e4\ne7e5\nx\n");
+
+        try (Stream<Move> moves = moveReaderAdapter.streamMoves(path.toString())) {
+            Iterator<Move> iterator = moves.iterator();
+
+            Assertions.assertThat(iterator.next()).isEqualTo(new Move(Color.WHITE, of("e2"), of("e4")));
+            Assertions.assertThat(iterator.next()).isEqualTo(new Move(Color.BLACK, of("e7"), of("e5")));
+            assertThrows(ReaderException.class, iterator::hasNext);
+        }
+    }
+
+    @Test
+    @DisplayName("Test streaming moves when file not found")
+    void testStreamingMovesWhenFileNotFound() {
+        assertThrows(ReaderException.class, () -> moveReaderAdapter.streamMoves("non-existent-file-path"));
+    }
+
     private String copyTestFileToTmpDir(String fileName) throws IOException {
         String path = tempDir.toString() + "/" + fileName;
 
@@ -0,0 +1,106 @@
+package com.whg.chess.input;
+
+import com.whg.chess.config.AppConfig;
+import com.whg.chess.input.exception.ReaderException;
+import com.whg.chess.input.impl.FileMoveReaderAdapter;
+import com.whg.chess.input.impl.MappedFileMoveReaderAdapter;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.enums.Color;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.whg.chess.model.Coordinates.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Tests for the memory-mapped file reader")
+class MappedFileMoveReaderAdapterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Autowired
+    AppConfig appConfig;
+
+    @Autowired
+    FileMoveReaderAdapter fileMoveReaderAdapter;
+
+    MappedFileMoveReaderAdapter moveReaderAdapter;
+
+    @BeforeEach
+    void setUp() {
+        moveReaderAdapter = new MappedFileMoveReaderAdapter(appConfig);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"checkmate.txt", "move-when-check.txt", "sample-moves-invalid.txt", "sample-moves.txt"})
+    @DisplayName("Test reading the bundled files gives the same moves as the vendor reader")
+    void testSameMovesAsVendorReader(String fileName) {
+        String location = Path.of("src/main/resources/moves", fileName).toString();
+
+        assertEquals(fileMoveReaderAdapter.readMoves(location), moveReaderAdapter.readMoves(location));
+    }
+
+    @Test
+    @DisplayName("Test reading spaced notation, CRLF, blank lines and a last line without a line break")
+    void testLenientNotation() throws Exception {
+        Path path = tempDir.resolve("moves.txt");
+        Files.writeString(path, "e2 e4\r\n\r\ne7e5\na1a9");
+
+        Assertions.assertThat(moveReaderAdapter.readMoves(path.toString()))
+                .containsExactly(
+                        new Move(Color.WHITE, of("e2"), of("e4")),
+                        new Move(Color.BLACK, of("e7"), of("e5")),
+                        new Move(Color.WHITE, of("a1"), of(8, 0))
+                );
+    }
+
+    @Test
+    @DisplayName("Test reading packed moves")
+    void testPackedMoves() throws Exception {
+        Path path = tempDir.resolve("moves.txt");
+        Files.writeString(path, "e2e4\ne7e5\n");
+        List<Move> moves = new ArrayList<>();
+
+        long count = moveReaderAdapter.readPackedMoves(path.toString(),
+                move -> moves.add(MoveNotationParser.toMove(move, MoveNotationParser.colorOf(moves.size()))));
+
+        assertEquals(2, count);
+        Assertions.assertThat(moves).containsExactly(
+                new Move(Color.WHITE, of("e2"), of("e4")),
+                new Move(Color.BLACK, of("e7"), of("e5"))
+        );
+    }
+
+    @Test
+    @DisplayName("Test reading a line too short to be a move")
+    void testBrokenLine() throws Exception {
+        Path path = tempDir.resolve("moves.txt");
+        Files.writeString(path, "e2e4\ne7\n");
+
+        ReaderException thrown = assertThrows(ReaderException.class, () -> moveReaderAdapter.readMoves(path.toString()));
+        assertEquals("The move could not be read at line 2", thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("Test reading the file when file not found")
+    void testFileNotFound() {
+        assertThrows(ReaderException.class, () -> moveReaderAdapter.readMoves("non-existent-file-path"));
+    }
+
+}
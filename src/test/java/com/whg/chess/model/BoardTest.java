@@ -0,0 +1,108 @@
+package com.whg.chess.model;
+
+import com.whg.chess.model.enums.Color;
+import com.whg.chess.model.enums.PieceName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.whg.chess.model.Coordinates.of;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Tests for the bitboard backed board")
+class BoardTest {
+
+    @Test
+    @DisplayName("Squares write through to the bitboards")
+    void testSquareViews() {
+        Board board = new Board(8);
+
+        board.getSquare(of("e4")).setPiece(new Piece(PieceName.QUEEN, Color.WHITE));
+
+        int e4 = Board.squareOf(of("e4"));
+        assertEquals(Board.bit(e4), board.getPieces(PieceName.QUEEN, Color.WHITE));
+        assertEquals(Board.bit(e4), board.getPieces(Color.WHITE));
+        assertEquals(Board.bit(e4), board.getOccupied());
+        assertEquals(new Piece(PieceName.QUEEN, Color.WHITE), board.getSquare(of("e4")).getPiece());
+
+        board.getSquare(of("e4")).setPiece(null);
+
+        assertEquals(0L, board.getOccupied());
+        assertNull(board.getPiece(of("e4")));
+    }
+
+    @Test
+    @DisplayName("Moving a piece replaces the captured one and the copy stays untouched")
+    void testMovePieceOnCopy() {
+        Board board = new Board(8);
+        board.setPiece(of("a1"), new Piece(PieceName.ROOK, Color.WHITE));
+        board.setPiece(of("a8"), new Piece(PieceName.KNIGHT, Color.BLACK));
+
+        Board copy = new Board(board);
+        copy.movePiece(Board.squareOf(of("a1")), Board.squareOf(of("a8")));
+
+        assertThat(copy.getSquaresWithPieces(Color.WHITE), hasSize(1));
+        assertThat(copy.getSquaresWithPieces(Color.BLACK), hasSize(0));
+        assertEquals(PieceName.ROOK, copy.getPieceName(of("a8")));
+
+        assertThat(board.getSquaresWithPieces(Color.BLACK), hasSize(1));
+        assertEquals(PieceName.ROOK, board.getPieceName(of("a1")));
+    }
+
+    @Test
+    @DisplayName("Pieces and squares handed out by the board are the shared instances")
+    void testSharedInstances() {
+        Board board = new Board(8);
+        board.setPiece(of("e4"), new Piece(PieceName.QUEEN, Color.WHITE));
+
+        assertSame(Piece.WHITE_QUEEN, board.getPiece(of("e4")));
+        assertSame(Piece.BLACK_KNIGHT, Piece.of(PieceName.KNIGHT, Color.BLACK));
+        assertSame(of("e4"), board.getSquaresWithPieces(Color.WHITE).get(0).getCoordinates());
+    }
+
+    @Test
+    @DisplayName("Squares outside of the board are rejected")
+    void testOutsideOfBoard() {
+        Board board = new Board(8);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> board.getSquare(of("a9")));
+    }
+
+    @Test
+    @DisplayName("Zobrist key depends on the position only, not on the way it was reached")
+    void testZobristKeyIsIncremental() {
+        Board board = new Board(8);
+        board.setPiece(of("b1"), new Piece(PieceName.KNIGHT, Color.WHITE));
+        board.setPiece(of("g8"), new Piece(PieceName.KNIGHT, Color.BLACK));
+        long initialKey = board.getZobristKey();
+
+        board.makeMove(Board.squareOf(of("b1")), Board.squareOf(of("c3")));
+        assertEquals(Color.BLACK, board.getSideToMove());
+        board.makeMove(Board.squareOf(of("g8")), Board.squareOf(of("f6")));
+        board.makeMove(Board.squareOf(of("c3")), Board.squareOf(of("d5")));
+
+        Board sameFromScratch = new Board(8);
+        sameFromScratch.setPiece(of("d5"), new Piece(PieceName.KNIGHT, Color.WHITE));
+        sameFromScratch.setPiece(of("f6"), new Piece(PieceName.KNIGHT, Color.BLACK));
+        sameFromScratch.setSideToMove(Color.BLACK);
+
+        assertEquals(sameFromScratch.getZobristKey(), board.getZobristKey());
+        assertEquals(sameFromScratch, board);
+
+        board.makeMove(Board.squareOf(of("f6")), Board.squareOf(of("d5")));
+        assertNotEquals(sameFromScratch.getZobristKey(), board.getZobristKey());
+
+        board.unmakeMove();
+        board.unmakeMove();
+        board.unmakeMove();
+        board.unmakeMove();
+        assertEquals(initialKey, board.getZobristKey());
+        assertEquals(Color.WHITE, board.getSideToMove());
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.whg.chess.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests for interned coordinates and square notation")
+class CoordinatesTest {
+
+    @Test
+    @DisplayName("Squares of the board are shared instances")
+    void testInterning() {
+        Coordinates e4 = Coordinates.of("e4");
+
+        assertSame(e4, Coordinates.of("E4"));
+        assertSame(e4, Coordinates.of(3, 4));
+        assertSame(e4, Coordinates.ofSquare(Board.squareOf(3, 4)));
+        assertSame(e4, Coordinates.unpack(e4.pack()));
+        assertEquals(3, e4.getRow());
+        assertEquals(4, e4.getColumn());
+    }
+
+    @Test
+    @DisplayName("Notation is parsed char by char")
+    void testParsing() {
+        assertEquals(Coordinates.of(0, 0), Coordinates.of("a1"));
+        assertEquals(Coordinates.of(7, 7), Coordinates.of("H8"));
+        assertEquals(Coordinates.of(9, 1), Coordinates.of("b10"));
+        assertEquals(Coordinates.of(3, -1), Coordinates.of("z4"));
+
+        assertThrows(NumberFormatException.class, () -> Coordinates.of("e"));
+        assertThrows(NumberFormatException.class, () -> Coordinates.of("ex"));
+        assertThrows(NumberFormatException.class, () -> Coordinates.of("a4294967297"));
+        assertThrows(NumberFormatException.class, () -> Coordinates.of("a99999999999"));
+    }
+
+    @Test
+    @DisplayName("Coordinates outside of the board are created on demand")
+    void testOutsideOfBoard() {
+        Coordinates outside = Coordinates.of(8, 0);
+
+        assertNotSame(outside, Coordinates.of(8, 0));
+        assertEquals(outside, Coordinates.of(8, 0));
+        assertEquals("A9", outside.toString());
+        assertEquals("(3, -1)", Coordinates.of(3, -1).toString());
+        assertEquals("(3, -1)", Coordinates.of(3, -1).appendTo(new StringBuilder()).toString());
+        assertEquals("A9", outside.appendTo(new StringBuilder()).toString());
+    }
+
+    @Test
+    @DisplayName("Notation is formatted back")
+    void testFormatting() {
+        assertEquals("E4", Coordinates.of("e4").toString());
+        assertSame(Coordinates.of("e4").toString(), Coordinates.of("e4").toString());
+        assertEquals("A1H8", Coordinates.of("h8").appendTo(Coordinates.of("a1").appendTo(new StringBuilder())).toString());
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.whg.chess.model;
+
+import com.whg.chess.model.enums.Color;
+import com.whg.chess.model.enums.FailureCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.whg.chess.model.Coordinates.of;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests for validation results")
+class ValidationResultTest {
+
+    @Test
+    @DisplayName("Explanation is formatted from the failure code and its arguments")
+    void testExplanation() {
+        ValidationResult result = ValidationResult.failed(FailureCode.PAWN_INVALID_MOVE, Color.BLACK.ordinal(), of("e7").pack(), of("e4").pack());
+
+        assertTrue(result.isFailed());
+        assertEquals(FailureCode.PAWN_INVALID_MOVE, result.getFailureCode());
+        assertEquals("BLACK pawn on E7 is not allowed to piece to E4", result.getExplanation());
+    }
+
+    @Test
+    @DisplayName("Passed result has neither code nor explanation")
+    void testPassed() {
+        assertTrue(ValidationResult.PASSED.isSuccess());
+        assertNull(ValidationResult.PASSED.getFailureCode());
+        assertNull(ValidationResult.PASSED.getExplanation());
+    }
+
+    @Test
+    @DisplayName("Coordinates outside of the board survive packing")
+    void testPackingOutsideOfBoard() {
+        Coordinates coordinates = of(554, -1);
+
+        assertEquals(coordinates, Coordinates.unpack(coordinates.pack()));
+    }
+
+}
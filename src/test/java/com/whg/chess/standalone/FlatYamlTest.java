@@ -0,0 +1,45 @@
+package com.whg.chess.standalone;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Reading the flat subset of YAML used by the configuration")
+class FlatYamlTest {
+
+    @Test
+    @DisplayName("Nested keys are flattened with dots, comments and quotes are dropped")
+    void testRead() throws IOException {
+        Map<String, String> properties = read("# configuration\n"
+                + "app:\n"
+                + "  mode: console # default\n"
+                + "\n"
+                + "  name-mappings:\n"
+                + "    pawn: 'P'\n"
+                + "    knight: \"N\"\n"
+                + "  board-size: 8\n"
+                + "server:\n"
+                + "  port: 80\n");
+
+        assertEquals(Map.of("app.mode", "console", "app.name-mappings.pawn", "P", "app.name-mappings.knight", "N",
+                "app.board-size", "8", "server.port", "80"), properties);
+    }
+
+    @Test
+    @DisplayName("Lists and multiple documents are rejected")
+    void testUnsupported() {
+        assertThrows(IllegalArgumentException.class, () -> read("app:\n  readers:\n    - mapped\n"));
+        assertThrows(IllegalArgumentException.class, () -> read("app:\n  mode: console\n---\napp:\n  mode: batch\n"));
+    }
+
+    private static Map<String, String> read(String yaml) throws IOException {
+        return FlatYaml.read(new BufferedReader(new StringReader(yaml)));
+    }
+}
@@ -0,0 +1,88 @@
+package com.whg.chess.standalone;
+
+import com.whg.chess.config.AppConfig;
+import com.whg.chess.engine.replay.GameReplayer;
+import com.whg.chess.engine.replay.GameSummary;
+import com.whg.chess.engine.rule.PieceTypeRule;
+import com.whg.chess.engine.rule.Rule;
+import com.whg.chess.engine.rule.impl.general.GeneralRule;
+import com.whg.chess.engine.rule.impl.piece.PieceRule;
+import com.whg.chess.engine.rule.impl.postmove.PostMoveRule;
+import com.whg.chess.input.impl.FileMoveReaderAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Wiring the application without Spring")
+class StandaloneComponentsTest {
+
+    private static final String MOVES = "src/main/resources/moves/";
+
+    @Autowired
+    private AppConfig appConfig;
+
+    @Autowired
+    @GeneralRule
+    private List<Rule> generalRules;
+
+    @Autowired
+    @PieceRule
+    private List<PieceTypeRule> pieceRules;
+
+    @Autowired
+    @PostMoveRule
+    private List<Rule> postMoveRules;
+
+    @Autowired
+    private GameReplayer gameReplayer;
+
+    private final StandaloneComponents components = StandaloneComponents.fromApplicationYaml();
+
+    @Test
+    @DisplayName("Configuration matches the one bound by Spring")
+    void testConfiguration() {
+        assertEquals(appConfig.getBoardSize(), components.getAppConfig().getBoardSize());
+        assertEquals(appConfig.getReader(), components.getAppConfig().getReader());
+        assertEquals(appConfig.getCheckpointInterval(), components.getAppConfig().getCheckpointInterval());
+        assertEquals(appConfig.getRenderMode(), components.getAppConfig().getRenderMode());
+        assertEquals(appConfig.getRenderInterval(), components.getAppConfig().getRenderInterval());
+        assertEquals(appConfig.getRenderBuffered(), components.getAppConfig().getRenderBuffered());
+        assertEquals(appConfig.getNameMappings(), components.getAppConfig().getNameMappings());
+        assertThat(components.getMoveReaderAdapter(), instanceOf(FileMoveReaderAdapter.class));
+    }
+
+    @Test
+    @DisplayName("Rules are the ones injected by Spring in the same order")
+    void testRules() {
+        assertEquals(classesOf(generalRules), classesOf(components.getGeneralRules()));
+        assertEquals(classesOf(pieceRules), classesOf(components.getPieceRules()));
+        assertEquals(classesOf(postMoveRules), classesOf(components.getPostMoveRules()));
+    }
+
+    @Test
+    @DisplayName("Games are replayed the same way as in the Spring context")
+    void testReplay() {
+        for (String game : List.of("sample-moves.txt", "sample-moves-invalid.txt", "checkmate.txt", "move-when-check.txt")) {
+            GameSummary expected = gameReplayer.replay(MOVES + game);
+            GameSummary actual = components.getGameReplayer().replay(MOVES + game);
+
+            assertEquals(expected, actual, game);
+        }
+    }
+
+    private static List<Class<?>> classesOf(List<?> beans) {
+        return beans.stream().map(Object::getClass).collect(Collectors.toList());
+    }
+
+}
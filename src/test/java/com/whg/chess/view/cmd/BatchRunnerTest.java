@@ -0,0 +1,41 @@
+package com.whg.chess.view.cmd;
+
+import com.whg.chess.engine.checkpoint.CheckpointFile;
+import com.whg.chess.engine.replay.GameReplayer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Finding the games validated in batch mode")
+class BatchRunnerTest {
+
+    @Autowired
+    private GameReplayer gameReplayer;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Checkpoint sidecars next to the games are not taken for games")
+    void testSidecarsSkipped() throws IOException {
+        Path game = Files.writeString(directory.resolve("game.txt"), "e2e4\ne7e5\n");
+        Files.writeString(directory.resolve("game.txt" + CheckpointFile.SUFFIX), "# chess checkpoints v1\n");
+        Files.writeString(directory.resolve("game.txt" + CheckpointFile.SUFFIX + ".tmp"), "# chess checkpoints v1\n");
+
+        List<Path> games = new BatchRunner(gameReplayer).findGames(directory.toString());
+
+        assertEquals(List.of(game), games);
+    }
+}
@@ -0,0 +1,66 @@
+package com.whg.chess.view.cmd;
+
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.model.Board;
+import com.whg.chess.view.BoardRenderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Rendering boards as text on the console")
+class ConsoleBoardRendererTest {
+
+    @Autowired
+    private BoardRenderer boardRenderer;
+
+    @Autowired
+    private BoardFactory boardFactory;
+
+    @Test
+    @DisplayName("Starting position is rendered rank 8 first with the glyphs of the name mappings")
+    void testStartingPosition() {
+        String expected = "8| r n b q k b n r\n"
+                + "7| p p p p p p p p\n"
+                + "6| . . . . . . . .\n"
+                + "5| . . . . . . . .\n"
+                + "4| . . . . . . . .\n"
+                + "3| . . . . . . . .\n"
+                + "2| P P P P P P P P\n"
+                + "1| R N B Q K B N R\n"
+                + "   - - - - - - - -\n"
+                + "   A B C D E F G H\n"
+                + "\n";
+
+        assertEquals(expected, render(boardFactory.getStartingBoard()));
+    }
+
+    @Test
+    @DisplayName("Rendering a position leaves no pieces behind for the next one")
+    void testRenderingIsIndependent() {
+        render(boardFactory.fromFen("4k3/8/8/8/3Q4/8/8/4K3 w - - 0 1"));
+
+        String rendered = render(boardFactory.fromFen("4k3/8/8/8/8/8/8/4K3 w - - 0 1"));
+
+        assertEquals("4| . . . . . . . .", rendered.split("\n")[4]);
+        assertEquals("8| . . . . k . . .", rendered.split("\n")[0]);
+        assertEquals("1| . . . . K . . .", rendered.split("\n")[7]);
+    }
+
+    private String render(Board board) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8)) {
+            boardRenderer.renderBoard(board, out);
+        }
+        return output.toString(StandardCharsets.UTF_8).replace(System.lineSeparator(), "\n");
+    }
+}
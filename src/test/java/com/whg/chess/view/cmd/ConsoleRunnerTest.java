@@ -0,0 +1,187 @@
+package com.whg.chess.view.cmd;
+
+import com.whg.chess.config.AppConfig;
+import com.whg.chess.engine.GameEngine;
+import com.whg.chess.engine.checkpoint.CheckpointFile;
+import com.whg.chess.engine.checkpoint.GameCheckpointer;
+import com.whg.chess.engine.factory.BoardFactory;
+import com.whg.chess.engine.metrics.RuleMetrics;
+import com.whg.chess.engine.rule.helper.KingUtils;
+import com.whg.chess.input.MoveReaderAdapter;
+import com.whg.chess.input.exception.ReaderException;
+import com.whg.chess.model.Move;
+import com.whg.chess.model.enums.Color;
+import com.whg.chess.view.BoardRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.whg.chess.model.Coordinates.of;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Replaying move files on the console")
+class ConsoleRunnerTest {
+
+    private static final String MOVES = "src/main/resources/moves/";
+    private static final String LAST_RANK = "8| ";
+
+    @Autowired
+    private KingUtils kingUtils;
+
+    @Autowired
+    private GameEngine gameEngine;
+
+    @Autowired
+    private BoardRenderer boardRenderer;
+
+    @Autowired
+    private MoveReaderAdapter moveReaderAdapter;
+
+    @Autowired
+    private RuleMetrics ruleMetrics;
+
+    @Autowired
+    private BoardFactory boardFactory;
+
+    @Autowired
+    private CheckpointFile checkpointFile;
+
+    private AppConfig appConfig;
+    private ByteArrayOutputStream output;
+    private PrintStream out;
+
+    @BeforeEach
+    void bufferOutput() {
+        appConfig = new AppConfig();
+        appConfig.setBoardSize(8);
+        appConfig.setRenderMode("final");
+
+        output = new ByteArrayOutputStream();
+        out = new PrintStream(new BufferedOutputStream(output), false, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("A completed replay prints the final board once")
+    void testFinalBoard() {
+        runner(moveReaderAdapter).replay(out, MOVES + "checkmate.txt");
+
+        assertEquals(1, countBoards());
+        assertThat(printed(), containsString("Warning: BLACK King is in check!"));
+    }
+
+    @Test
+    @DisplayName("An illegal move prints the last legal position once and flushes before stopping")
+    void testIllegalMove() {
+        ReplayStoppedException stopped = assertThrows(ReplayStoppedException.class,
+                () -> runner(moveReaderAdapter).replay(out, MOVES + "sample-moves-invalid.txt"));
+
+        assertEquals(0, stopped.getStatus());
+        assertEquals(1, countBoards());
+        assertThat(printed().indexOf(LAST_RANK), greaterThan(printed().indexOf("Illegal move")));
+    }
+
+    @Test
+    @DisplayName("Printing every move does not repeat the last board after an illegal move")
+    void testIllegalMoveEveryMove() {
+        appConfig.setRenderMode("every-move");
+
+        assertThrows(ReplayStoppedException.class, () -> runner(moveReaderAdapter).replay(out, MOVES + "sample-moves-invalid.txt"));
+
+        assertEquals(3, countBoards());
+    }
+
+    @Test
+    @DisplayName("A read error prints the last legal position and the stats before stopping")
+    void testReadError() {
+        ReplayStoppedException stopped = assertThrows(ReplayStoppedException.class,
+                () -> runner(failingAfter(List.of(new Move(Color.WHITE, of("e2"), of("e4")), new Move(Color.BLACK, of("e7"), of("e5")))))
+                        .replay(out, ConsoleRunner.STATS_OPTION, "game.txt"));
+
+        assertEquals(1, stopped.getStatus());
+        assertEquals(1, countBoards());
+        assertThat(printed(), containsString("4| . . . . P . . ."));
+        assertThat(printed(), containsString("The move could not be read."));
+        assertThat(printed(), containsString("PawnRule"));
+    }
+
+    @Test
+    @DisplayName("A render interval below 1 stops the replay with a message")
+    void testInvalidRenderInterval() {
+        appConfig.setRenderMode("every-nth");
+        appConfig.setRenderInterval(0);
+
+        ReplayStoppedException stopped = assertThrows(ReplayStoppedException.class,
+                () -> runner(moveReaderAdapter).replay(out, MOVES + "checkmate.txt"));
+
+        assertEquals(1, stopped.getStatus());
+        assertThat(printed(), containsString("Render interval must be at least 1 but was 0"));
+    }
+
+    private ConsoleRunner runner(MoveReaderAdapter reader) {
+        GameCheckpointer gameCheckpointer = new GameCheckpointer(appConfig, boardFactory, checkpointFile);
+        return new ConsoleRunner(appConfig, kingUtils, gameEngine, boardRenderer, reader, ruleMetrics, gameCheckpointer);
+    }
+
+    /**
+     * Reader delivering the given moves and failing on the next one.
+     */
+    private static MoveReaderAdapter failingAfter(List<Move> moves) {
+        return new MoveReaderAdapter() {
+            @Override
+            public List<Move> readMoves(String location) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Stream<Move> streamMoves(String location) {
+                Iterator<Move> delivered = moves.iterator();
+                Iterator<Move> failing = new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        if (delivered.hasNext()) {
+                            return true;
+                        }
+                        throw new ReaderException("The move could not be read.");
+                    }
+
+                    @Override
+                    public Move next() {
+                        return delivered.next();
+                    }
+                };
+                return StreamSupport.stream(Spliterators.spliteratorUnknownSize(failing, Spliterator.ORDERED), false);
+            }
+        };
+    }
+
+    /**
+     * Output that reached the underlying stream, i.e. was flushed by the runner.
+     */
+    private String printed() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private long countBoards() {
+        return printed().lines().filter(line -> line.startsWith(LAST_RANK)).count();
+    }
+}
@@ -0,0 +1,34 @@
+package com.whg.chess.view.cmd;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Choosing the boards printed by console replays")
+class RenderModeTest {
+
+    @Test
+    @DisplayName("Render modes print every move, every Nth move or none before the final board")
+    void testRendersAfter() {
+        assertTrue(RenderMode.of("every-move").rendersAfter(3, 10));
+        assertTrue(RenderMode.of("every-nth").rendersAfter(0, 10));
+        assertFalse(RenderMode.of("every-nth").rendersAfter(3, 10));
+        assertTrue(RenderMode.of("every-nth").rendersAfter(20, 10));
+        assertTrue(RenderMode.of("every-nth").rendersAfter(3, 1));
+        assertFalse(RenderMode.of("final").rendersAfter(0, 10));
+    }
+
+    @Test
+    @DisplayName("Unknown modes and intervals below 1 are rejected")
+    void testInvalidConfiguration() {
+        assertEquals(RenderMode.EVERY_NTH, RenderMode.of("every-nth", 1));
+
+        assertThrows(IllegalArgumentException.class, () -> RenderMode.of("sometimes"));
+        assertThrows(IllegalArgumentException.class, () -> RenderMode.of("every-nth", 0));
+        assertThrows(IllegalArgumentException.class, () -> RenderMode.of("every-nth", -5));
+    }
+}
@@ -0,0 +1,67 @@
+package com.whg.chess.view.server;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Tests for live games over HTTP")
+class GameSessionHandlerTest {
+
+    @Autowired
+    GameSessionHandler gameSessionHandler;
+
+    HttpServer server;
+    HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(GameSessionHandler.SESSIONS_PATH, gameSessionHandler::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Test playing a game move by move")
+    void testGame() throws Exception {
+        HttpResponse<String> created = send("", "POST", "");
+        assertEquals(201, created.statusCode());
+        String id = created.body().trim();
+
+        assertEquals("WHITE\tE2E4\tLEGAL\n", send("/" + id, "POST", "e2e4").body());
+        assertEquals("WHITE\tD2D4\tILLEGAL\tWRONG_TURN\tWHITE color player is trying to move while it's BLACK's turn\n",
+                send("/" + id + "?color=white", "POST", "d2d4").body());
+        assertEquals("BLACK\tE7E5\tLEGAL\n", send("/" + id, "POST", "e7e5").body());
+
+        assertEquals(204, send("/" + id, "DELETE", "").statusCode());
+        assertEquals(404, send("/" + id, "POST", "d2d4").statusCode());
+    }
+
+    private HttpResponse<String> send(String path, String method, String body) throws Exception {
+        URI uri = URI.create("http://localhost:" + server.getAddress().getPort() + GameSessionHandler.SESSIONS_PATH + path);
+        HttpRequest request = HttpRequest.newBuilder(uri).method(method, HttpRequest.BodyPublishers.ofString(body)).build();
+
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+}
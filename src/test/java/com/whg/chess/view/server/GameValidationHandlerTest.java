@@ -0,0 +1,77 @@
+package com.whg.chess.view.server;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Tests for validating games over HTTP")
+class GameValidationHandlerTest {
+
+    @Autowired
+    GameValidationHandler gameValidationHandler;
+
+    HttpServer server;
+    HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(ServerRunner.VALIDATION_PATH, gameValidationHandler::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Test every move gets its outcome until the first illegal one")
+    void testOutcomes() throws Exception {
+        HttpResponse<String> response = post("e2e4\ne7e5\nf1c4\nb8c6\nd1f3\nd7d6\nf3f7\nh7h6\n");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("1\tWHITE\tE2E4\tLEGAL\n"
+                + "2\tBLACK\tE7E5\tLEGAL\n"
+                + "3\tWHITE\tF1C4\tLEGAL\n"
+                + "4\tBLACK\tB8C6\tLEGAL\n"
+                + "5\tWHITE\tD1F3\tLEGAL\n"
+                + "6\tBLACK\tD7D6\tLEGAL\n"
+                + "7\tWHITE\tF3F7\tCHECK\n"
+                + "8\tBLACK\tH7H6\tILLEGAL\tKING_IN_CHECK\tThe BLACK King is under attack!\n"
+                + "INVALID\t7\n", response.body());
+    }
+
+    @Test
+    @DisplayName("Test a body which is not a list of moves is rejected")
+    void testBadRequest() throws Exception {
+        HttpResponse<String> response = post("e2e4\ne7\n");
+
+        assertEquals(400, response.statusCode());
+        assertEquals("The move could not be read at line 2\n", response.body());
+    }
+
+    private HttpResponse<String> post(String moves) throws Exception {
+        URI uri = URI.create("http://localhost:" + server.getAddress().getPort() + ServerRunner.VALIDATION_PATH);
+        HttpRequest request = HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.ofString(moves)).build();
+
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+}